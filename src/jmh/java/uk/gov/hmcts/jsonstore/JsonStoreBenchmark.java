@@ -0,0 +1,176 @@
+package uk.gov.hmcts.jsonstore;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import uk.gov.hmcts.befta.data.HttpTestData;
+import uk.gov.hmcts.befta.factory.JsonStoreFactory;
+
+/**
+ * Benchmarks of loading test data stores and looking up objects in them, over
+ * synthetic corpora of {@link SyntheticTestDataCorpus}. The corpora are written
+ * once into the directory given by the {@value #CORPUS_DIRECTORY_PROPERTY}
+ * system property, which has to be on the classpath for the resource stores.
+ * The {@code jmh} Gradle task sets both up.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonStoreBenchmark {
+
+    public static final String CORPUS_DIRECTORY_PROPERTY = "befta.benchmark.corpusDir";
+
+    private static final int LOOKUP_SAMPLE_SIZE = 1024;
+
+    @Param({ "1000", "10000", "50000" })
+    public int corpusSize;
+
+    @Param({ "3" })
+    public int inheritanceDepth;
+
+    @Param({ "4" })
+    public int fanOut;
+
+    @Param({ JsonStoreFactory.FILE_STR, "RESOURCE", JsonStoreFactory.INDEXED_RESOURCE_STR })
+    public String storeType;
+
+    @Param({ "false", "true" })
+    public boolean lazyInheritance;
+
+    private SyntheticTestDataCorpus corpus;
+
+    private File corpusRoot;
+
+    private String[] resourcePaths;
+
+    @Setup(Level.Trial)
+    public void writeCorpus() throws Exception {
+        String corpusDirectory = System.getProperty(CORPUS_DIRECTORY_PROPERTY);
+        if (corpusDirectory == null)
+            throw new IllegalStateException("The " + CORPUS_DIRECTORY_PROPERTY + " system property is not set.");
+        corpusRoot = new File(corpusDirectory);
+        corpus = new SyntheticTestDataCorpus(corpusSize, inheritanceDepth, fanOut);
+        List<String> paths = corpus.writeTo(corpusRoot);
+        resourcePaths = paths.toArray(new String[0]);
+    }
+
+    JsonStoreWithInheritance newStore() {
+        JsonStoreWithInheritance store;
+        if (JsonStoreFactory.FILE_STR.equals(storeType))
+            store = new JsonFileStoreWithInheritance(new File(corpusRoot, corpus.getName()));
+        else if (JsonStoreFactory.INDEXED_RESOURCE_STR.equals(storeType))
+            store = new JsonIndexedResourceStoreWithInheritance(resourcePaths);
+        else
+            store = new JsonResourceStoreWithInheritance(resourcePaths);
+        store.setLazyInheritance(lazyInheritance);
+        return store;
+    }
+
+    @State(Scope.Thread)
+    public static class UnloadedStore {
+
+        JsonStoreWithInheritance store;
+
+        @Setup(Level.Iteration)
+        public void createStore(JsonStoreBenchmark benchmark) {
+            store = benchmark.newStore();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class LoadedStore {
+
+        JsonStoreWithInheritance store;
+
+        String deepestId;
+
+        @Setup(Level.Iteration)
+        public void loadStore(JsonStoreBenchmark benchmark) throws Exception {
+            store = benchmark.newStore();
+            store.getRootNode();
+            deepestId = benchmark.corpus.idOf(benchmark.corpus.deepestIndex());
+        }
+    }
+
+    /**
+     * A store with a sample of objects, spread evenly over the corpus, already
+     * looked up once.
+     */
+    @State(Scope.Thread)
+    public static class WarmStore {
+
+        JsonStoreWithInheritance store;
+
+        String[] ids;
+
+        int next;
+
+        @Setup(Level.Trial)
+        public void warmUpStore(JsonStoreBenchmark benchmark) throws Exception {
+            store = benchmark.newStore();
+            int sampleSize = Math.min(LOOKUP_SAMPLE_SIZE, benchmark.corpus.getSize());
+            ids = new String[sampleSize];
+            for (int i = 0; i < sampleSize; i++) {
+                ids[i] = benchmark.corpus.idOf((int) ((long) i * benchmark.corpus.getSize() / sampleSize));
+                store.getObjectWithId(ids[i], HttpTestData.class);
+            }
+        }
+
+        String nextId() {
+            String id = ids[next];
+            next = next + 1 == ids.length ? 0 : next + 1;
+            return id;
+        }
+    }
+
+    /**
+     * Parses the whole corpus into a new store, resolving inheritance on all of
+     * it unless the store is lazy.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public Object coldLoad(UnloadedStore unloadedStore) throws Exception {
+        return unloadedStore.store.getRootNode();
+    }
+
+    /**
+     * Looks up the object with the longest inheritance chain in a loaded store
+     * for the first time, which converts it, and resolves it if the store is lazy.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public Object firstLookup(LoadedStore loadedStore) throws Exception {
+        return loadedStore.store.getObjectWithId(loadedStore.deepestId, HttpTestData.class);
+    }
+
+    /**
+     * Looks up objects that have been looked up before.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Object steadyStateLookup(WarmStore warmStore) throws Exception {
+        return warmStore.store.getObjectWithId(warmStore.nextId(), HttpTestData.class);
+    }
+}
@@ -0,0 +1,137 @@
+package uk.gov.hmcts.jsonstore;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic test data for the store benchmarks. The objects form a forest of
+ * full trees of the given inheritance depth and fan-out, in which every object
+ * but the roots extends its parent and overrides part of it. Each object is
+ * written to a {@code .td.json} file of its own, as in real test suites.
+ */
+class SyntheticTestDataCorpus {
+
+    private static final String COMPLETE_MARKER = "corpus.complete";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final int size;
+    private final int inheritanceDepth;
+    private final int fanOut;
+    private final int treeSize;
+
+    SyntheticTestDataCorpus(int size, int inheritanceDepth, int fanOut) {
+        if (size < 1 || inheritanceDepth < 0 || (inheritanceDepth > 0 && fanOut < 1))
+            throw new IllegalArgumentException("Invalid corpus shape: size=" + size + ", inheritanceDepth="
+                    + inheritanceDepth + ", fanOut=" + fanOut);
+        this.size = size;
+        this.inheritanceDepth = inheritanceDepth;
+        this.fanOut = fanOut;
+        int objectsPerTree = 1;
+        int objectsOnLevel = 1;
+        for (int level = 1; level <= inheritanceDepth; level++) {
+            objectsOnLevel *= fanOut;
+            objectsPerTree += objectsOnLevel;
+        }
+        this.treeSize = objectsPerTree;
+    }
+
+    String getName() {
+        return "corpus-" + size + "-" + inheritanceDepth + "-" + fanOut;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * Objects are numbered tree by tree, and breadth first in each tree, so the
+     * parent of an object always precedes it.
+     */
+    String idOf(int index) {
+        return "Synthetic-Object-" + (index / treeSize) + "-" + (index % treeSize);
+    }
+
+    /**
+     * @return the index of the last object on the deepest level of the first
+     *         tree, which has the longest inheritance chain in the corpus
+     */
+    int deepestIndex() {
+        return Math.min(size, treeSize) - 1;
+    }
+
+    /**
+     * Writes the corpus into a directory named after it under the given root,
+     * unless a complete copy of it is already there. The files are not split
+     * into subdirectories, as the file store expects every subdirectory to hold
+     * a single object.
+     *
+     * @return the paths of the written resources relative to the root
+     */
+    List<String> writeTo(File root) throws IOException {
+        File directory = new File(root, getName());
+        boolean complete = new File(directory, COMPLETE_MARKER).isFile();
+        directory.mkdirs();
+        List<String> resourcePaths = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            String fileName = idOf(index) + ".td.json";
+            resourcePaths.add(getName() + "/" + fileName);
+            if (!complete)
+                mapper.writerWithDefaultPrettyPrinter().writeValue(new File(directory, fileName), createObject(index));
+        }
+        if (!complete)
+            Files.write(new File(directory, COMPLETE_MARKER).toPath(), new byte[0]);
+        return resourcePaths;
+    }
+
+    private ObjectNode createObject(int index) {
+        int indexInTree = index % treeSize;
+        int level = levelOf(indexInTree);
+        ObjectNode object = mapper.createObjectNode();
+        object.put(JsonStoreWithInheritance.GUID, idOf(index));
+        if (indexInTree > 0)
+            object.put(JsonStoreWithInheritance.EXTENDS, idOf(index - indexInTree + (indexInTree - 1) / fanOut));
+        object.put("title", "Synthetic object " + index + " on level " + level);
+        object.putArray("specs").add("should be loaded as object " + index);
+
+        if (indexInTree == 0) {
+            object.put("productName", "Synthetic Product");
+            object.put("operationName", "Synthetic Operation");
+            object.put("method", "POST");
+            object.put("uri", "/synthetic/{id}/objects");
+        }
+
+        ObjectNode request = object.putObject("request");
+        request.putObject("headers").put("X-Synthetic-Level-" + level, "value " + index);
+        ObjectNode requestBody = request.putObject("body");
+        requestBody.put("level" + level + "Field", "value " + index);
+        requestBody.putObject("nested").put("level" + level + "Value", index);
+        if (indexInTree == 0)
+            request.putObject("pathVariables").put("id", String.valueOf(index));
+
+        ObjectNode expectedResponse = object.putObject("expectedResponse");
+        if (indexInTree == 0) {
+            expectedResponse.put("responseCode", 201);
+            expectedResponse.putObject("headers").put("Content-Type", "application/json");
+        }
+        ObjectNode responseBody = expectedResponse.putObject("body");
+        responseBody.put("level" + level + "Field", "value " + index);
+        responseBody.putArray("items").addObject().put("id", index).put("level", level);
+        return object;
+    }
+
+    private int levelOf(int indexInTree) {
+        int level = 0;
+        while (indexInTree > 0) {
+            indexInTree = (indexInTree - 1) / fanOut;
+            level++;
+        }
+        return level;
+    }
+}
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.befta;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import uk.gov.hmcts.befta.TestAutomationConfig.HttpTransportType;
+import uk.gov.hmcts.befta.data.ResponseData;
+import uk.gov.hmcts.befta.load.LoadTestReport;
+import uk.gov.hmcts.befta.load.LoadTestRunner;
+import uk.gov.hmcts.befta.player.DefaultBackEndFunctionalTestScenarioPlayer;
+
+/**
+ * Entry point of load tests, which replay the calls in existing test data
+ * against the application under test as configured through
+ * {@link TestAutomationConfig#getLoadTestCalls()} and the other load test
+ * settings. Each call is built, authenticated and sent by a scenario player,
+ * as in a functional test run, and its response is verified if so configured.
+ * The latency recorded of a call is its response time in nanoseconds, which
+ * leaves out its prerequisites and the authentication of its users. With the
+ * {@link HttpTransportType#ASYNC} transport, the callers do not block a thread
+ * each while their calls are in flight, so the concurrency is not bounded by
+ * the threads available.
+ */
+public class BeftaLoadTest {
+
+    private BeftaLoadTest() {
+    }
+
+    public static void main(String[] args) {
+        main(args, new DefaultTestAutomationAdapter());
+    }
+
+    public static void main(String[] args, TestAutomationAdapter taAdapter) {
+        BeftaMain.setUp(TestAutomationConfig.INSTANCE, taAdapter);
+        try {
+            TestAutomationConfig config = BeftaMain.getConfig();
+            run(config).export(config.getLoadTestReportFile());
+        } finally {
+            BeftaMain.tearDown();
+        }
+    }
+
+    public static LoadTestReport run(TestAutomationConfig config) {
+        LoadTestRunner runner = new LoadTestRunner(config.getLoadTestCalls(), config.getLoadTestConcurrency(),
+                TimeUnit.SECONDS.toMillis(config.getLoadTestDuration()),
+                TimeUnit.SECONDS.toMillis(config.getLoadTestRampUp()));
+        boolean verifyResponses = config.isLoadTestResponseVerificationEnabled();
+        if (config.getHttpTransport() == HttpTransportType.ASYNC) {
+            return runner.runAsynchronously(() -> {
+                DefaultBackEndFunctionalTestScenarioPlayer player = new DefaultBackEndFunctionalTestScenarioPlayer();
+                return testDataId -> player
+                        .performTheApiCallAsynchronously(testDataId, verifyResponses, ForkJoinPool.commonPool())
+                        .thenApply(response -> response.getTimings().getResponseNanos());
+            }, Runtime.getRuntime().availableProcessors());
+        }
+        return runner.run(() -> {
+            DefaultBackEndFunctionalTestScenarioPlayer player = new DefaultBackEndFunctionalTestScenarioPlayer();
+            return testDataId -> {
+                ResponseData response = player.performTheApiCall(testDataId, verifyResponses);
+                return response.getTimings().getResponseNanos();
+            };
+        });
+    }
+}
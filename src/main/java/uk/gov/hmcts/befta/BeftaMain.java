@@ -1,21 +1,48 @@
 package uk.gov.hmcts.befta;
 
 import io.cucumber.core.cli.Main;
+import uk.gov.hmcts.befta.data.TestDataMetricsReport;
+import uk.gov.hmcts.befta.factory.HttpTransportFactory;
 import uk.gov.hmcts.befta.featuretoggle.FeatureToggleService;
+import uk.gov.hmcts.befta.http.RestAssuredConnectionPool;
+import uk.gov.hmcts.befta.player.CaseCreationPool;
 import uk.gov.hmcts.befta.player.DefaultBackEndFunctionalTestScenarioPlayer;
 import uk.gov.hmcts.befta.util.CucumberStepAnnotationUtils;
 
+import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static java.lang.String.format;
 import static uk.gov.hmcts.befta.util.BeftaUtils.defaultLog;
 
+/**
+ * Entry point of BEFTA Framework runs, and holder of their runtime state.
+ * <p>
+ * Scenarios can be run in parallel by Cucumber, on the number of threads given
+ * by {@link TestAutomationConfig#getScenarioThreads()}. The runtime state is set
+ * up once, before any scenario starts, and only read while scenarios run; it is
+ * kept in volatile fields so that every scenario thread sees it. In parallel
+ * runs:
+ * <ul>
+ * <li>each scenario gets a player and a scenario context of its own, which are
+ * not shared with any other scenario;</li>
+ * <li>the test data source is shared, looks up test data without locking, and
+ * hands out a separate copy of the test data on each call;</li>
+ * <li>the default adapter is shared, and caches S2S token generators and
+ * authenticated users in concurrent maps, so that each user is authenticated
+ * once per run;</li>
+ * <li>custom adapters and feature toggle services are shared, and have to be
+ * thread-safe themselves.</li>
+ * </ul>
+ */
 public class BeftaMain {
 
-    private static TestAutomationConfig config = TestAutomationConfig.INSTANCE;
-    private static TestAutomationAdapter taAdapter = null;
-    private static FeatureToggleService featureToggleService = FeatureToggleService.DEFAULT_INSTANCE;
+    static final String THREADS_OPTION = "--threads";
+
+    private static volatile TestAutomationConfig config = TestAutomationConfig.INSTANCE;
+    private static volatile TestAutomationAdapter taAdapter = null;
+    private static volatile FeatureToggleService featureToggleService = FeatureToggleService.DEFAULT_INSTANCE;
 
     public static void main(String[] args) {
         main(args, new DefaultTestAutomationAdapter());
@@ -39,7 +66,23 @@ public class BeftaMain {
     }
 
     public static void runCucumberMain(String[] args) {
-        Main.main(args);
+        Main.main(withScenarioThreads(args));
+    }
+
+    /**
+     * Adds the configured number of scenario threads to the Cucumber arguments,
+     * unless they already set a number of threads.
+     */
+    static String[] withScenarioThreads(String[] args) {
+        int scenarioThreads = getConfig().getScenarioThreads();
+        if (scenarioThreads <= 1 || Arrays.asList(args).contains(THREADS_OPTION)) {
+            return args;
+        }
+        String[] argsWithThreads = new String[args.length + 2];
+        argsWithThreads[0] = THREADS_OPTION;
+        argsWithThreads[1] = String.valueOf(scenarioThreads);
+        System.arraycopy(args, 0, argsWithThreads, 2, args.length);
+        return argsWithThreads;
     }
 
     public static void setUp() {
@@ -55,7 +98,7 @@ public class BeftaMain {
     }
 
     public static void setUp(TestAutomationConfig config, TestAutomationAdapter taAdapter) {
-        setUp(TestAutomationConfig.INSTANCE, taAdapter, FeatureToggleService.DEFAULT_INSTANCE);
+        setUp(config, taAdapter, FeatureToggleService.DEFAULT_INSTANCE);
     }
 
     public static void setUp(TestAutomationConfig config, TestAutomationAdapter taAdapter,
@@ -70,7 +113,10 @@ public class BeftaMain {
     }
 
     public static void tearDown() {
-
+        TestDataMetricsReport.export(getConfig().getTestDataMetricsReportFile());
+        CaseCreationPool.shutdown();
+        HttpTransportFactory.closeHttpTransports();
+        RestAssuredConnectionPool.shutdown();
     }
 
     public static TestAutomationAdapter getAdapter() {
@@ -3,8 +3,9 @@ package uk.gov.hmcts.befta;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 
 import uk.gov.hmcts.befta.auth.AuthApi;
@@ -32,7 +33,7 @@ public class DefaultTestAutomationAdapter implements TestAutomationAdapter {
 
     private final Map<String, ServiceAuthTokenGenerator> tokenGenerators = new ConcurrentHashMap<>();
 
-    private final Map<String, UserData> users = new HashMap<>();
+    private final Map<String, CompletableFuture<UserData>> users = new ConcurrentHashMap<>();
 
     private BeftaTestDataLoader dataLoader;
 
@@ -51,27 +52,55 @@ public class DefaultTestAutomationAdapter implements TestAutomationAdapter {
     }
 
     @Override
-    public synchronized String getNewS2SToken(String clientId) {
+    public String getNewS2SToken(String clientId) {
         return tokenGenerators.computeIfAbsent(clientId, key -> {
             return getNewS2sClient(clientId);
         }).generate();
     }
 
+    /**
+     * Authenticates each user once. The first scenario to need a user makes the
+     * IDAM calls, outside of the map of users, and the scenarios needing the same
+     * user in the meantime wait for its outcome. A failed authentication is not
+     * kept, so a scenario waiting for it authenticates the user itself.
+     */
     @Override
-    public synchronized void authenticate(UserData user, String userTokenClientId) {
-        UserData cached = users.computeIfAbsent(user.getUsername(), e -> {
-            final String accessToken = getUserAccessToken(user.getUsername(), user
-                            .getPassword(),
+    public void authenticate(UserData user, String userTokenClientId) {
+        while (true) {
+            CompletableFuture<UserData> authentication = new CompletableFuture<>();
+            CompletableFuture<UserData> existing = users.putIfAbsent(user.getUsername(), authentication);
+            if (existing == null) {
+                authenticateWithIdam(user, userTokenClientId, authentication);
+                return;
+            }
+            UserData cached;
+            try {
+                cached = existing.join();
+            } catch (CompletionException e) {
+                users.remove(user.getUsername(), existing);
+                continue;
+            }
+            if (user != cached) {
+                user.setId(cached.getId());
+                user.setAccessToken(cached.getAccessToken());
+            }
+            return;
+        }
+    }
+
+    private void authenticateWithIdam(UserData user, String userTokenClientId,
+            CompletableFuture<UserData> authentication) {
+        try {
+            final String accessToken = getUserAccessToken(user.getUsername(), user.getPassword(),
                     UserTokenProviderConfig.of(userTokenClientId));
             final AuthApi.User idamUser = idamApi.getUser(accessToken);
             user.setId(idamUser.getId());
             user.setAccessToken(accessToken);
-            return user;
-        });
-
-        if (user != cached) {
-            user.setId(cached.getId());
-            user.setAccessToken(cached.getAccessToken());
+            authentication.complete(user);
+        } catch (RuntimeException | Error e) {
+            users.remove(user.getUsername(), authentication);
+            authentication.completeExceptionally(e);
+            throw e;
         }
     }
 
@@ -1,5 +1,10 @@
 package uk.gov.hmcts.befta;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import uk.gov.hmcts.befta.auth.UserTokenProviderConfig;
 import uk.gov.hmcts.befta.data.CollectionVerificationConfig.Ordering;
 import uk.gov.hmcts.befta.util.EnvironmentVariableUtils;
@@ -10,6 +15,30 @@ public class TestAutomationConfig {
 
     private static final double DEFAULT_TEST_DATA_LOAD_SKIP_PERIOD = 15.0;
 
+    private static final int DEFAULT_TEST_DATA_PARSING_THREADS = 1;
+
+    private static final int DEFAULT_SCENARIO_THREADS = 1;
+
+    private static final int DEFAULT_PREREQUISITE_THREADS = 1;
+
+    private static final int DEFAULT_HTTP_MAX_CONNECTIONS_PER_ROUTE = 20;
+
+    private static final int DEFAULT_HTTP_MAX_CONNECTIONS_TOTAL = 200;
+
+    private static final int DEFAULT_HTTP_TIMEOUT = 0;
+
+    private static final int DEFAULT_SCENARIO_LOG_PAYLOAD_LIMIT = 0;
+
+    private static final int DEFAULT_LOAD_TEST_CONCURRENCY = 1;
+
+    private static final int DEFAULT_LOAD_TEST_DURATION = 60;
+
+    private static final int DEFAULT_LOAD_TEST_RAMP_UP = 0;
+
+    private static final int DEFAULT_CASE_POOL_SIZE = 2;
+
+    private static final int DEFAULT_CASE_POOL_THREADS = 2;
+
     private TestAutomationConfig() {
     }
 
@@ -74,6 +103,60 @@ public class TestAutomationConfig {
         return setting == null ? ResponseHeaderCheckPolicy.FAIL_TEST : ResponseHeaderCheckPolicy.valueOf(setting);
     }
 
+    public static enum HttpTransportType {
+        RESTASSURED, ASYNC
+    }
+
+    public HttpTransportType getHttpTransport() {
+        String setting = EnvironmentVariableUtils.getOptionalVariable("BEFTA_HTTP_TRANSPORT");
+        return setting == null ? HttpTransportType.RESTASSURED : HttpTransportType.valueOf(setting);
+    }
+
+    public static enum ScenarioLogLevel {
+        OFF, SUMMARY, ON_FAILURE, FULL
+    }
+
+    public ScenarioLogLevel getScenarioLogLevel() {
+        String setting = EnvironmentVariableUtils.getOptionalVariable("BEFTA_SCENARIO_LOG_LEVEL");
+        return setting == null ? ScenarioLogLevel.FULL : ScenarioLogLevel.valueOf(setting);
+    }
+
+    /**
+     * @return the maximum number of characters logged of a request or response
+     *         payload, 0 for no limit
+     */
+    public int getScenarioLogPayloadLimit() {
+        return getIntVariable("BEFTA_SCENARIO_LOG_PAYLOAD_LIMIT", DEFAULT_SCENARIO_LOG_PAYLOAD_LIMIT);
+    }
+
+    public int getHttpMaxConnectionsPerRoute() {
+        return getIntVariable("BEFTA_HTTP_MAX_CONNECTIONS_PER_ROUTE", DEFAULT_HTTP_MAX_CONNECTIONS_PER_ROUTE);
+    }
+
+    public int getHttpMaxConnectionsTotal() {
+        return getIntVariable("BEFTA_HTTP_MAX_CONNECTIONS_TOTAL", DEFAULT_HTTP_MAX_CONNECTIONS_TOTAL);
+    }
+
+    /**
+     * @return the connect timeout of HTTP calls in milliseconds, 0 for none
+     */
+    public int getHttpConnectTimeout() {
+        return getIntVariable("BEFTA_HTTP_CONNECT_TIMEOUT", DEFAULT_HTTP_TIMEOUT);
+    }
+
+    /**
+     * @return the timeout of HTTP calls waiting for data in milliseconds, 0 for
+     *         none
+     */
+    public int getHttpReadTimeout() {
+        return getIntVariable("BEFTA_HTTP_READ_TIMEOUT", DEFAULT_HTTP_TIMEOUT);
+    }
+
+    private int getIntVariable(String name, int defaultValue) {
+        String envVar = EnvironmentVariableUtils.getOptionalVariable(name);
+        return envVar == null ? defaultValue : Integer.parseInt(envVar);
+    }
+
     public double getTestDataLoadSkipPeriod() {
         double testDataLoadSkipPeriod = DEFAULT_TEST_DATA_LOAD_SKIP_PERIOD;
         String envVar = EnvironmentVariableUtils.getOptionalVariable("TEST_DATA_LOAD_SKIP_PERIOD");
@@ -83,6 +166,127 @@ public class TestAutomationConfig {
         return testDataLoadSkipPeriod;
     }
 
+    public boolean isTestDataLazyInheritanceEnabled() {
+        return Boolean.parseBoolean(EnvironmentVariableUtils.getOptionalVariable("BEFTA_TEST_DATA_LAZY_INHERITANCE"));
+    }
+
+    public boolean isTestDataOffsetIndexEnabled() {
+        return Boolean.parseBoolean(EnvironmentVariableUtils.getOptionalVariable("BEFTA_TEST_DATA_OFFSET_INDEX"));
+    }
+
+    public int getTestDataParsingThreads() {
+        int testDataParsingThreads = DEFAULT_TEST_DATA_PARSING_THREADS;
+        String envVar = EnvironmentVariableUtils.getOptionalVariable("BEFTA_TEST_DATA_PARSING_THREADS");
+        if (envVar != null) {
+            testDataParsingThreads = Integer.parseInt(envVar);
+        }
+        return testDataParsingThreads;
+    }
+
+    public int getScenarioThreads() {
+        int scenarioThreads = DEFAULT_SCENARIO_THREADS;
+        String envVar = EnvironmentVariableUtils.getOptionalVariable("BEFTA_SCENARIO_THREADS");
+        if (envVar != null) {
+            scenarioThreads = Integer.parseInt(envVar);
+        }
+        return scenarioThreads;
+    }
+
+    public int getPrerequisiteThreads() {
+        int prerequisiteThreads = DEFAULT_PREREQUISITE_THREADS;
+        String envVar = EnvironmentVariableUtils.getOptionalVariable("BEFTA_PREREQUISITE_THREADS");
+        if (envVar != null) {
+            prerequisiteThreads = Integer.parseInt(envVar);
+        }
+        return prerequisiteThreads;
+    }
+
+    public String getTestDataSnapshotFile() {
+        return EnvironmentVariableUtils.getOptionalVariable("BEFTA_TEST_DATA_SNAPSHOT_FILE");
+    }
+
+    public String getTestDataWatchDirectory() {
+        return EnvironmentVariableUtils.getOptionalVariable("BEFTA_TEST_DATA_WATCH_DIRECTORY");
+    }
+
+    public String getTestDataMetricsReportFile() {
+        return EnvironmentVariableUtils.getOptionalVariable("BEFTA_TEST_DATA_METRICS_REPORT_FILE");
+    }
+
+    /**
+     * @return the ids of the test data to replay in a load test, in the order
+     *         they are listed, mapped to their weights, which default to 1, e.g.
+     *         {@code S-101_Get_Case:3,S-102_Search_Cases}
+     */
+    public Map<String, Integer> getLoadTestCalls() {
+        Map<String, Integer> loadTestCalls = new LinkedHashMap<>();
+        String envVar = EnvironmentVariableUtils.getOptionalVariable("BEFTA_LOAD_TEST_CALLS");
+        if (envVar != null) {
+            for (String call : envVar.split(",")) {
+                if (call.trim().isEmpty())
+                    continue;
+                String[] idAndWeight = call.split(":");
+                loadTestCalls.put(idAndWeight[0].trim(),
+                        idAndWeight.length > 1 ? Integer.parseInt(idAndWeight[1].trim()) : 1);
+            }
+        }
+        return loadTestCalls;
+    }
+
+    public int getLoadTestConcurrency() {
+        return getIntVariable("BEFTA_LOAD_TEST_CONCURRENCY", DEFAULT_LOAD_TEST_CONCURRENCY);
+    }
+
+    /**
+     * @return the duration of a load test in seconds, ramp-up included
+     */
+    public int getLoadTestDuration() {
+        return getIntVariable("BEFTA_LOAD_TEST_DURATION", DEFAULT_LOAD_TEST_DURATION);
+    }
+
+    /**
+     * @return the seconds over which the concurrent callers of a load test are
+     *         started
+     */
+    public int getLoadTestRampUp() {
+        return getIntVariable("BEFTA_LOAD_TEST_RAMP_UP", DEFAULT_LOAD_TEST_RAMP_UP);
+    }
+
+    public boolean isLoadTestResponseVerificationEnabled() {
+        return Boolean.parseBoolean(EnvironmentVariableUtils.getOptionalVariable("BEFTA_LOAD_TEST_VERIFY_RESPONSES"));
+    }
+
+    public String getLoadTestReportFile() {
+        return EnvironmentVariableUtils.getOptionalVariable("BEFTA_LOAD_TEST_REPORT_FILE");
+    }
+
+    /**
+     * @return the ids of the case creation data to create cases with in the
+     *         background, ahead of the scenarios using them
+     */
+    public List<String> getCasePoolDataIds() {
+        List<String> casePoolDataIds = new ArrayList<>();
+        String envVar = EnvironmentVariableUtils.getOptionalVariable("BEFTA_CASE_POOL_DATA_IDS");
+        if (envVar != null) {
+            for (String caseCreationDataId : envVar.split(",")) {
+                if (!caseCreationDataId.trim().isEmpty())
+                    casePoolDataIds.add(caseCreationDataId.trim());
+            }
+        }
+        return casePoolDataIds;
+    }
+
+    /**
+     * @return the number of cases kept ready for each pooled case creation data
+     */
+    public int getCasePoolSize() {
+        return getIntVariable("BEFTA_CASE_POOL_SIZE", DEFAULT_CASE_POOL_SIZE);
+    }
+
+    public int getCasePoolThreads() {
+        return getIntVariable("BEFTA_CASE_POOL_THREADS", DEFAULT_CASE_POOL_THREADS);
+    }
+
 }
 
 
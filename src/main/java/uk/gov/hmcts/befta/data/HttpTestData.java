@@ -74,6 +74,12 @@ public class HttpTestData {
 
     private String userTokenClientId;
 
+    /**
+     * The latency budget of the call in milliseconds: the response is not
+     * verified if it takes longer to be received. No budget applies if null.
+     */
+    private Long maxResponseTimeMillis;
+
     public HttpTestData() {
     }
 
@@ -102,6 +108,7 @@ public class HttpTestData {
 
         this.setUserTokenClientId(other.getUserTokenClientId());
         this.setS2sClientId(other.getS2sClientId());
+        this.setMaxResponseTimeMillis(other.getMaxResponseTimeMillis());
     }
 
     public boolean meetsSpec(String specification) {
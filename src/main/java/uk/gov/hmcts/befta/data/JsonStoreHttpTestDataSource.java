@@ -3,11 +3,21 @@ package uk.gov.hmcts.befta.data;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.reflect.ClassPath;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+import uk.gov.hmcts.befta.BeftaMain;
+import uk.gov.hmcts.befta.exception.FunctionalTestException;
 import uk.gov.hmcts.befta.factory.JsonStoreFactory;
+import uk.gov.hmcts.jsonstore.JsonFileStoreWithInheritance;
 import uk.gov.hmcts.jsonstore.JsonStoreWithInheritance;
 
 public class JsonStoreHttpTestDataSource implements HttpTestDataSource {
@@ -16,13 +26,42 @@ public class JsonStoreHttpTestDataSource implements HttpTestDataSource {
 
     private ArrayList<String> resourcePaths = new ArrayList<>();
 
-    private JsonStoreWithInheritance jsonStore = null;
+    private Map<String, String> resourceContentHashes = new HashMap<>();
+
+    private final String storeName;
+
+    private final Supplier<JsonStoreWithInheritance> jsonStore = Suppliers.memoize(this::createJsonStore);
 
     public JsonStoreHttpTestDataSource(String[] resourcePackages) {
+        this(resourcePackages, TestDataResourceIndex.INDEX_RESOURCE);
+    }
+
+    /**
+     * Locates the test data resources through the test data resource indexes on
+     * the classpath, scanning the classpath only for the resource packages the
+     * indexes do not fully cover.
+     */
+    JsonStoreHttpTestDataSource(String[] resourcePackages, String indexResourceName) {
+        storeName = String.join(",", resourcePackages);
         long start = System.currentTimeMillis();
+        int indexedResources = 0;
         try {
-            ClassPath cp = ClassPath.from(Thread.currentThread().getContextClassLoader());
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            TestDataResourceIndex index = TestDataResourceIndex.load(classLoader, indexResourceName);
+            ClassPath cp = null;
             for (String resourcePackage : resourcePackages) {
+                List<TestDataResourceIndex.Entry> entries = index.findEntriesIn(resourcePackage, classLoader);
+                if (entries != null) {
+                    for (TestDataResourceIndex.Entry entry : entries) {
+                        resourcePaths.add(entry.getResourceName());
+                        resourceContentHashes.put(entry.getResourceName(), entry.getContentHash());
+                    }
+                    indexedResources += entries.size();
+                    continue;
+                }
+                if (cp == null) {
+                    cp = ClassPath.from(classLoader);
+                }
                 String prefix = resourcePackage + "/";
                 for (ClassPath.ResourceInfo info : cp.getResources()) {
                     if (info.getResourceName().startsWith(prefix)
@@ -36,28 +75,68 @@ public class JsonStoreHttpTestDataSource implements HttpTestDataSource {
         } finally {
             long finish = System.currentTimeMillis();
             double seconds = (finish - start) / 1000.0;
-            logger.info("Located {} test data resource files in {} seconds.", resourcePaths.size(), seconds);
+            logger.info("Located {} test data resource files ({} through indexes) in {} seconds.",
+                    resourcePaths.size(), indexedResources, seconds);
         }
     }
 
+    /**
+     * Creates the json store once, on the first call. Test data already fetched
+     * is then looked up without any locking, so that concurrent scenarios do not
+     * queue behind each other. The store is registered in the
+     * {@link TestDataMetricsReport} of the run when it is created.
+     */
     @Override
-    public synchronized HttpTestData getDataForTestCall(String testDataId) {
+    public HttpTestData getDataForTestCall(String testDataId) {
         long start = System.currentTimeMillis();
-        String jsonStoreOption="Resource";
-        if (jsonStore == null) {
-            jsonStore = JsonStoreFactory.createJsonStoreWithInheritance(jsonStoreOption,
-                    resourcePaths.toArray(new String[0]));
-        }
         try {
-            return jsonStore.getObjectWithId(testDataId, HttpTestData.class);
+            return jsonStore.get().getObjectWithId(testDataId, HttpTestData.class);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
         finally {
             long finish = System.currentTimeMillis();
             double seconds = (finish - start) / 1000.0;
-            logger.info("Fetched test data for {} in {} seconds.", testDataId, seconds);
+            logger.debug("Fetched test data for {} in {} seconds.", testDataId, seconds);
+        }
+    }
+
+    private JsonStoreWithInheritance createJsonStore() {
+        String watchDirectory = BeftaMain.getConfig().getTestDataWatchDirectory();
+        JsonStoreWithInheritance store;
+        if (watchDirectory != null) {
+            store = createWatchingJsonStore(new File(watchDirectory));
+        } else {
+            String jsonStoreOption = BeftaMain.getConfig().isTestDataOffsetIndexEnabled()
+                    ? JsonStoreFactory.INDEXED_RESOURCE_STR : "Resource";
+            store = JsonStoreFactory.createJsonStoreWithInheritance(jsonStoreOption,
+                    resourcePaths.toArray(new String[0]));
+            store.setKnownContentHashes(resourceContentHashes);
+        }
+        store.setParsingParallelism(BeftaMain.getConfig().getTestDataParsingThreads());
+        store.setLazyInheritance(BeftaMain.getConfig().isTestDataLazyInheritanceEnabled());
+        String snapshotFile = BeftaMain.getConfig().getTestDataSnapshotFile();
+        if (snapshotFile != null) {
+            store.setSnapshotFile(new File(snapshotFile));
+        }
+        TestDataMetricsReport.register(storeName, store::getMetrics);
+        return store;
+    }
+
+    /**
+     * Creates a store of the test data files in the given directory, instead of
+     * the test data resources on the classpath, which reloads the files edited
+     * while the run is in progress.
+     */
+    private JsonStoreWithInheritance createWatchingJsonStore(File directory) {
+        JsonFileStoreWithInheritance store = new JsonFileStoreWithInheritance(directory);
+        try {
+            store.startWatching();
+        } catch (IOException e) {
+            throw new FunctionalTestException("Could not watch test data directory " + directory, e);
         }
+        logger.info("Watching test data files in {} for changes.", directory);
+        return store;
     }
 
 }
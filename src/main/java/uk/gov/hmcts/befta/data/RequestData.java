@@ -1,9 +1,9 @@
 package uk.gov.hmcts.befta.data;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import lombok.Data;
-import uk.gov.hmcts.befta.util.JsonUtils;
 
 @Data
 public class RequestData {
@@ -24,12 +24,20 @@ public class RequestData {
     public RequestData() {
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Copies the headers, path variables and query parameters, but shares the
+     * body with the other request. Bodies are treated as copy-on-write: a body
+     * is replaced with a changed copy instead of being modified in place.
+     */
     public RequestData(RequestData other) {
-        setHeaders((Map<String, Object>) JsonUtils.deepCopy(other.getHeaders()));
-        setPathVariables((Map<String, Object>) JsonUtils.deepCopy(other.getPathVariables()));
-        setQueryParams((Map<String, Object>) JsonUtils.deepCopy(other.getQueryParams()));
-        setBody((Map<String, Object>) JsonUtils.deepCopy(other.getBody()));
+        setHeaders(copyOf(other.getHeaders()));
+        setPathVariables(copyOf(other.getPathVariables()));
+        setQueryParams(copyOf(other.getQueryParams()));
+        setBody(other.getBody());
+    }
+
+    private static Map<String, Object> copyOf(Map<String, Object> map) {
+        return map == null ? null : new LinkedHashMap<>(map);
     }
 
 }
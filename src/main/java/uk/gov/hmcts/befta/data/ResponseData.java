@@ -4,7 +4,6 @@ import java.util.Map;
 import java.util.TreeMap;
 
 import lombok.Data;
-import uk.gov.hmcts.befta.util.JsonUtils;
 
 @Data
 public class ResponseData {
@@ -17,6 +16,8 @@ public class ResponseData {
 
     private Map<String, Object> body;
 
+    private ResponseTimings timings;
+
     public void setHeaders(Map<String, Object> headers) {
         if (headers == null) {
             this.headers = null;
@@ -30,11 +31,16 @@ public class ResponseData {
 
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Copies the headers, but shares the body with the other response. Bodies
+     * are treated as copy-on-write: a body is replaced with a changed copy
+     * instead of being modified in place.
+     */
     public ResponseData(ResponseData other) {
         setResponseCode(other.getResponseCode());
         setResponseMessage(other.getResponseMessage());
-        setHeaders((Map<String, Object>) JsonUtils.deepCopy(other.getHeaders()));
-        setBody((Map<String, Object>) JsonUtils.deepCopy(other.getBody()));
+        setHeaders(other.getHeaders());
+        setBody(other.getBody());
+        setTimings(other.getTimings() == null ? null : new ResponseTimings(other.getTimings()));
     }
 }
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.befta.data;
+
+import java.util.concurrent.TimeUnit;
+
+import lombok.Data;
+
+/**
+ * The time spent on each part of an API call, in milliseconds.
+ */
+@Data
+public class ResponseTimings {
+
+    /**
+     * Building the request from the test data.
+     */
+    private long requestBuildTime;
+
+    /**
+     * From sending the request until the client returned the response.
+     */
+    private long sendTime;
+
+    /**
+     * From sending the request until the status line and headers of the response
+     * arrived, or null if the client in use does not report it.
+     */
+    private Long timeToFirstByte;
+
+    /**
+     * Reading the body of the response into the response data.
+     */
+    private long bodyReadTime;
+
+    /**
+     * Verifying the response against the expected one, or null if it has not
+     * been verified.
+     */
+    private Long verificationTime;
+
+    /**
+     * The send and body read times in nanoseconds, as measured before they were
+     * cut down to milliseconds, for latencies finer than a millisecond.
+     */
+    private long responseNanos;
+
+    public ResponseTimings() {
+
+    }
+
+    public ResponseTimings(ResponseTimings other) {
+        setRequestBuildTime(other.getRequestBuildTime());
+        setSendTime(other.getSendTime());
+        setTimeToFirstByte(other.getTimeToFirstByte());
+        setBodyReadTime(other.getBodyReadTime());
+        setVerificationTime(other.getVerificationTime());
+        setResponseNanos(other.getResponseNanos());
+    }
+
+    /**
+     * Sets the send time from the given nanoseconds, adding them to the
+     * response time in nanoseconds.
+     */
+    public void recordSendTime(long nanos) {
+        setSendTime(TimeUnit.NANOSECONDS.toMillis(nanos));
+        responseNanos += nanos;
+    }
+
+    /**
+     * Sets the body read time from the given nanoseconds, adding them to the
+     * response time in nanoseconds.
+     */
+    public void recordBodyReadTime(long nanos) {
+        setBodyReadTime(TimeUnit.NANOSECONDS.toMillis(nanos));
+        responseNanos += nanos;
+    }
+
+    /**
+     * @return the time from sending the request until the response, body
+     *         included, was received
+     */
+    public long getResponseTime() {
+        return sendTime + bodyReadTime;
+    }
+}
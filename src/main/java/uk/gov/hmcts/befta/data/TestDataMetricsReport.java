@@ -0,0 +1,60 @@
+package uk.gov.hmcts.befta.data;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import uk.gov.hmcts.befta.util.JsonUtils;
+import uk.gov.hmcts.jsonstore.JsonStoreMetrics;
+
+/**
+ * Collects the metrics of the test data stores used in a run, so that they can
+ * be logged and written to a json report when the run is torn down.
+ */
+public class TestDataMetricsReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestDataMetricsReport.class);
+
+    private static final Map<String, Supplier<JsonStoreMetrics>> storeMetrics = new LinkedHashMap<>();
+
+    private TestDataMetricsReport() {
+    }
+
+    public static synchronized void register(String storeName, Supplier<JsonStoreMetrics> metrics) {
+        storeMetrics.put(storeName, metrics);
+    }
+
+    public static synchronized Map<String, JsonStoreMetrics> collect() {
+        Map<String, JsonStoreMetrics> metrics = new LinkedHashMap<>();
+        storeMetrics.forEach((storeName, storeMetricsSupplier) -> metrics.put(storeName, storeMetricsSupplier.get()));
+        return metrics;
+    }
+
+    /**
+     * Logs the metrics of all the test data stores used so far, and writes them
+     * to the given report file, unless it is null.
+     */
+    public static void export(String reportFile) {
+        Map<String, JsonStoreMetrics> metrics = collect();
+        if (metrics.isEmpty()) {
+            return;
+        }
+        metrics.forEach((storeName, storeMetrics) -> logger.info("Test data store for {}: {}", storeName,
+                storeMetrics));
+        if (reportFile != null) {
+            try {
+                File parentDirectory = new File(reportFile).getAbsoluteFile().getParentFile();
+                if (parentDirectory != null) {
+                    parentDirectory.mkdirs();
+                }
+                JsonUtils.writeJsonToFile(reportFile, metrics);
+            } catch (Exception e) {
+                logger.warn("Could not write the test data metrics report {}.", reportFile, e);
+            }
+        }
+    }
+}
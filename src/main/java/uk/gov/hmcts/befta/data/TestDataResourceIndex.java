@@ -0,0 +1,136 @@
+package uk.gov.hmcts.befta.data;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Index of the test data resources packaged in the classpath roots (jars or
+ * directories) built with the {@code testDataIndex} Gradle task. Each indexed
+ * root carries a {@value #INDEX_RESOURCE} resource listing its
+ * {@code *.td.json} resources with their sizes and SHA-256 hashes, one per line
+ * as {@code <size>\t<sha256>\t<resource name>}.
+ */
+public class TestDataResourceIndex {
+
+    public static final String INDEX_RESOURCE = "META-INF/befta/test-data.index";
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final String SEPARATOR = "\t";
+
+    @Data
+    @AllArgsConstructor
+    public static class Entry {
+        private String resourceName;
+        private long size;
+        private String contentHash;
+    }
+
+    private final Map<String, List<Entry>> entriesPerRoot;
+
+    private final String indexResourceName;
+
+    private TestDataResourceIndex(Map<String, List<Entry>> entriesPerRoot, String indexResourceName) {
+        this.entriesPerRoot = entriesPerRoot;
+        this.indexResourceName = indexResourceName;
+    }
+
+    public static TestDataResourceIndex load(ClassLoader classLoader) {
+        return load(classLoader, INDEX_RESOURCE);
+    }
+
+    public static TestDataResourceIndex load(ClassLoader classLoader, String indexResourceName) {
+        Map<String, List<Entry>> entriesPerRoot = new LinkedHashMap<>();
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(indexResourceName);
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                entriesPerRoot.put(rootOf(index, indexResourceName), readEntries(index));
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Could not read test data resource index " + indexResourceName, e);
+        }
+        return new TestDataResourceIndex(entriesPerRoot, indexResourceName);
+    }
+
+    public boolean isEmpty() {
+        return entriesPerRoot.isEmpty();
+    }
+
+    /**
+     * Finds the indexed test data resources in a resource package.
+     *
+     * @return the resources, or null if any classpath root containing the
+     *         package is not indexed, in which case the package has to be scanned
+     */
+    public List<Entry> findEntriesIn(String resourcePackage, ClassLoader classLoader) throws Exception {
+        if (isEmpty()) {
+            return null;
+        }
+        String prefix = resourcePackage + "/";
+        Enumeration<URL> packageLocations = classLoader.getResources(resourcePackage);
+        if (!packageLocations.hasMoreElements()) {
+            return null;
+        }
+        List<Entry> entries = new ArrayList<>();
+        while (packageLocations.hasMoreElements()) {
+            List<Entry> entriesInRoot = entriesPerRoot.get(rootOf(packageLocations.nextElement(), resourcePackage));
+            if (entriesInRoot == null) {
+                return null;
+            }
+            for (Entry entry : entriesInRoot) {
+                if (entry.getResourceName().startsWith(prefix)) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public String toString() {
+        return indexResourceName + " in " + entriesPerRoot.keySet();
+    }
+
+    private static String rootOf(URL resource, String resourceName) {
+        String location = resource.toString();
+        String name = resourceName.endsWith("/") ? resourceName : resourceName + "/";
+        if (location.endsWith(name)) {
+            return location.substring(0, location.length() - name.length());
+        }
+        if (location.endsWith(resourceName)) {
+            return location.substring(0, location.length() - resourceName.length());
+        }
+        return location;
+    }
+
+    private static List<Entry> readEntries(URL index) throws Exception {
+        List<Entry> entries = new ArrayList<>();
+        try (InputStream in = index.openStream();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                String[] parts = line.split(SEPARATOR, 3);
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Malformed line in " + index + ": " + line);
+                }
+                entries.add(new Entry(parts[2], Long.parseLong(parts[0]), parts[1]));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,69 @@
+package uk.gov.hmcts.befta.factory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import uk.gov.hmcts.befta.BeftaMain;
+import uk.gov.hmcts.befta.TestAutomationConfig.HttpTransportType;
+import uk.gov.hmcts.befta.http.AsyncHttpTransport;
+import uk.gov.hmcts.befta.http.HttpTransport;
+
+/**
+ * Creates the HTTP transports of the scenario player. Each transport is
+ * created once, when it is first used, and shared by all the scenarios until
+ * the run is torn down.
+ */
+public class HttpTransportFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpTransportFactory.class);
+
+    private static final Map<HttpTransportType, HttpTransport> transports = new ConcurrentHashMap<>();
+
+    private HttpTransportFactory() {
+    }
+
+    /**
+     * @return the shared transport of the given type, or null for
+     *         {@link HttpTransportType#RESTASSURED}, with which the player sends
+     *         its requests through RestAssured itself. Called on every request,
+     *         so a transport already created is looked up without locking.
+     */
+    public static HttpTransport getHttpTransport(HttpTransportType type) {
+        if (type == HttpTransportType.RESTASSURED)
+            return null;
+        HttpTransport transport = transports.get(type);
+        if (transport != null)
+            return transport;
+        return transports.computeIfAbsent(type, HttpTransportFactory::createHttpTransport);
+    }
+
+    private static HttpTransport createHttpTransport(HttpTransportType type) {
+        switch (type) {
+        case ASYNC:
+            return new AsyncHttpTransport(BeftaMain.getConfig());
+        default:
+            throw new IllegalArgumentException("Unsupported HTTP transport: " + type);
+        }
+    }
+
+    /**
+     * Logs the connection pool usage of the transports created so far, and
+     * closes them.
+     */
+    public static synchronized void closeHttpTransports() {
+        transports.keySet().forEach(type -> transports.computeIfPresent(type, (closing, transport) -> {
+            logger.info("{} HTTP transport connection pool: {}", type, transport.getConnectionPoolMetrics());
+            try {
+                transport.close();
+            } catch (IOException e) {
+                logger.warn("Could not close the {} HTTP transport.", type, e);
+            }
+            return null;
+        }));
+    }
+
+}
@@ -7,6 +7,7 @@ import java.io.File;
 
 import uk.gov.hmcts.befta.util.BeftaUtils;
 import uk.gov.hmcts.jsonstore.JsonFileStoreWithInheritance;
+import uk.gov.hmcts.jsonstore.JsonIndexedResourceStoreWithInheritance;
 import uk.gov.hmcts.jsonstore.JsonResourceStoreWithInheritance;
 import uk.gov.hmcts.jsonstore.JsonStoreWithInheritance;
 
@@ -18,6 +19,8 @@ public class JsonStoreFactory {
 
     public static final String FILE_STR = "FILE";
 
+    public static final String INDEXED_RESOURCE_STR = "INDEXED_RESOURCE";
+
     private JsonStoreFactory() {
     }
 
@@ -26,6 +29,8 @@ public class JsonStoreFactory {
         if (FILE_STR.equalsIgnoreCase(jsonStoreOption)) {
             File location = BeftaUtils.getSingleFileFromResource(resourcePaths);
             return new JsonFileStoreWithInheritance(location, idFieldName, inheritanceFieldName);
+        } else if (INDEXED_RESOURCE_STR.equalsIgnoreCase(jsonStoreOption)) {
+            return new JsonIndexedResourceStoreWithInheritance(resourcePaths, idFieldName, inheritanceFieldName);
         } else {
             return new JsonResourceStoreWithInheritance(resourcePaths, idFieldName, inheritanceFieldName);
         }
@@ -36,6 +41,8 @@ public class JsonStoreFactory {
         if (FILE_STR.equalsIgnoreCase(jsonStoreOption)) {
             File location = BeftaUtils.getSingleFileFromResource(resourcePaths);
             return new JsonFileStoreWithInheritance(location);
+        } else if (INDEXED_RESOURCE_STR.equalsIgnoreCase(jsonStoreOption)) {
+            return new JsonIndexedResourceStoreWithInheritance(resourcePaths);
         } else {
             return new JsonResourceStoreWithInheritance(resourcePaths);
         }
@@ -0,0 +1,230 @@
+package uk.gov.hmcts.befta.http;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import uk.gov.hmcts.befta.TestAutomationConfig;
+import uk.gov.hmcts.befta.exception.FunctionalTestException;
+
+/**
+ * Sends requests through a non-blocking client on a few I/O threads, however
+ * many requests are in flight. HTTP/2 is used where the server accepts it over
+ * TLS, so that the requests to a host are multiplexed on one connection, and
+ * pooled HTTP/1.1 connections otherwise. Certificates are not validated, as is
+ * the case with RestAssured in the scenario player.
+ */
+public class AsyncHttpTransport implements HttpTransport {
+
+    private final PoolingAsyncClientConnectionManager connectionManager;
+
+    private final CloseableHttpAsyncClient client;
+
+    public AsyncHttpTransport(TestAutomationConfig config) {
+        try {
+            connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                    .setMaxConnPerRoute(config.getHttpMaxConnectionsPerRoute())
+                    .setMaxConnTotal(config.getHttpMaxConnectionsTotal())
+                    .setTlsStrategy(ClientTlsStrategyBuilder.create()
+                            .setSslContext(SSLContexts.custom().loadTrustMaterial(TrustAllStrategy.INSTANCE).build())
+                            .setHostnameVerifier(NoopHostnameVerifier.INSTANCE).build())
+                    .build();
+        } catch (GeneralSecurityException e) {
+            throw new FunctionalTestException("Failed to set up the TLS context of the HTTP transport", e);
+        }
+        RequestConfig.Builder requestConfig = RequestConfig.custom();
+        if (config.getHttpConnectTimeout() > 0)
+            requestConfig.setConnectTimeout(Timeout.ofMilliseconds(config.getHttpConnectTimeout()));
+        if (config.getHttpReadTimeout() > 0)
+            requestConfig.setResponseTimeout(Timeout.ofMilliseconds(config.getHttpReadTimeout()));
+        client = HttpAsyncClients.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+                .setConnectionManager(connectionManager).setDefaultRequestConfig(requestConfig.build()).build();
+        client.start();
+    }
+
+    @Override
+    public CompletableFuture<HttpTransportResponse> send(HttpTransportRequest request) {
+        SimpleHttpRequest httpRequest = new SimpleHttpRequest(request.getMethod().toUpperCase(), request.getUri());
+        request.getHeaders().forEach((name, value) -> {
+            // framing headers are set by the client from the body
+            if (!name.equalsIgnoreCase("Content-Length") && !name.equalsIgnoreCase("Transfer-Encoding"))
+                httpRequest.setHeader(name, value);
+        });
+        if (request.getBody() != null) {
+            String contentType = request.getHeader("Content-Type");
+            httpRequest.setBody(request.getBody(), contentType == null ? null : ContentType.parse(contentType));
+        }
+
+        CompletableFuture<HttpTransportResponse> response = new CompletableFuture<>();
+        TimingResponseConsumer responseConsumer = new TimingResponseConsumer(System.nanoTime());
+        FutureCallback<SimpleHttpResponse> callback = new FutureCallback<SimpleHttpResponse>() {
+            @Override
+            public void completed(SimpleHttpResponse result) {
+                response.complete(new AsyncHttpTransportResponse(result, responseConsumer.timeToFirstByte));
+            }
+
+            @Override
+            public void failed(Exception e) {
+                response.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+                response.cancel(false);
+            }
+        };
+        client.execute(SimpleRequestProducer.create(httpRequest), responseConsumer, callback);
+        return response;
+    }
+
+    @Override
+    public ConnectionPoolMetrics getConnectionPoolMetrics() {
+        return ConnectionPoolMetrics.of(connectionManager.getTotalStats());
+    }
+
+    @Override
+    public void close() {
+        client.close(CloseMode.GRACEFUL);
+    }
+
+    /**
+     * Buffers the response as {@link SimpleResponseConsumer} does, noting when
+     * its head arrives.
+     */
+    private static class TimingResponseConsumer implements AsyncResponseConsumer<SimpleHttpResponse> {
+
+        private final AsyncResponseConsumer<SimpleHttpResponse> delegate = SimpleResponseConsumer.create();
+
+        private final long sendStartNanos;
+
+        private volatile Long timeToFirstByte;
+
+        private TimingResponseConsumer(long sendStartNanos) {
+            this.sendStartNanos = sendStartNanos;
+        }
+
+        @Override
+        public void consumeResponse(HttpResponse response, EntityDetails entityDetails, HttpContext context,
+                FutureCallback<SimpleHttpResponse> resultCallback) throws HttpException, IOException {
+            timeToFirstByte = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sendStartNanos);
+            delegate.consumeResponse(response, entityDetails, context, resultCallback);
+        }
+
+        @Override
+        public void informationResponse(HttpResponse response, HttpContext context)
+                throws HttpException, IOException {
+            delegate.informationResponse(response, context);
+        }
+
+        @Override
+        public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+            delegate.updateCapacity(capacityChannel);
+        }
+
+        @Override
+        public void consume(ByteBuffer src) throws IOException {
+            delegate.consume(src);
+        }
+
+        @Override
+        public void streamEnd(List<? extends Header> trailers) throws HttpException, IOException {
+            delegate.streamEnd(trailers);
+        }
+
+        @Override
+        public void failed(Exception cause) {
+            delegate.failed(cause);
+        }
+
+        @Override
+        public void releaseResources() {
+            delegate.releaseResources();
+        }
+    }
+
+    private static class AsyncHttpTransportResponse implements HttpTransportResponse {
+
+        private final SimpleHttpResponse response;
+
+        private final Long timeToFirstByte;
+
+        private AsyncHttpTransportResponse(SimpleHttpResponse response, Long timeToFirstByte) {
+            this.response = response;
+            this.timeToFirstByte = timeToFirstByte;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return response.getCode();
+        }
+
+        @Override
+        public Map<String, String> getHeaders() {
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (Header header : response.getHeaders()) {
+                headers.put(header.getName(), header.getValue());
+            }
+            return headers;
+        }
+
+        @Override
+        public String getContentType() {
+            Header contentType = response.getFirstHeader("Content-Type");
+            return contentType == null ? null : contentType.getValue();
+        }
+
+        @Override
+        public String getBodyAsString() {
+            if (response.getBodyBytes() == null)
+                return null;
+            ContentType contentType = response.getContentType();
+            Charset charset = contentType == null ? null : contentType.getCharset();
+            return new String(response.getBodyBytes(), charset == null ? StandardCharsets.UTF_8 : charset);
+        }
+
+        @Override
+        public InputStream getBodyAsInputStream() {
+            return response.getBodyBytes() == null ? null : new ByteArrayInputStream(response.getBodyBytes());
+        }
+
+        @Override
+        public Long getTimeToFirstByte() {
+            return timeToFirstByte;
+        }
+    }
+}
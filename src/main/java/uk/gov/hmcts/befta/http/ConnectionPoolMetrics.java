@@ -0,0 +1,57 @@
+package uk.gov.hmcts.befta.http;
+
+/**
+ * Usage of a connection pool at a point in time.
+ */
+public class ConnectionPoolMetrics {
+
+    private final int leased;
+    private final int available;
+    private final int pending;
+    private final int max;
+
+    public ConnectionPoolMetrics(int leased, int available, int pending, int max) {
+        this.leased = leased;
+        this.available = available;
+        this.pending = pending;
+        this.max = max;
+    }
+
+    static ConnectionPoolMetrics of(org.apache.http.pool.PoolStats stats) {
+        return new ConnectionPoolMetrics(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    static ConnectionPoolMetrics of(org.apache.hc.core5.pool.PoolStats stats) {
+        return new ConnectionPoolMetrics(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    /**
+     * @return the number of connections in use
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * @return the number of idle connections kept alive for reuse
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * @return the number of calls waiting for a connection
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("leased=%d, available=%d, pending=%d, max=%d", leased, available, pending, max);
+    }
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.befta.http;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends the requests of the scenario player. Implementations are shared by all
+ * the scenarios of a run, so they have to be thread-safe.
+ */
+public interface HttpTransport extends Closeable {
+
+    /**
+     * Sends the given request without blocking the calling thread.
+     *
+     * @return the response, or the failure to get it
+     */
+    CompletableFuture<HttpTransportResponse> send(HttpTransportRequest request);
+
+    ConnectionPoolMetrics getConnectionPoolMetrics();
+
+}
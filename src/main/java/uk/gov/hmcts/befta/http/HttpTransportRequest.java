@@ -0,0 +1,28 @@
+package uk.gov.hmcts.befta.http;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Data;
+
+@Data
+public class HttpTransportRequest {
+
+    private String method;
+
+    private URI uri;
+
+    private Map<String, String> headers = new LinkedHashMap<>();
+
+    private byte[] body;
+
+    public String getHeader(String name) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name))
+                return header.getValue();
+        }
+        return null;
+    }
+
+}
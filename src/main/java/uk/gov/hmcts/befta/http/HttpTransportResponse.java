@@ -0,0 +1,40 @@
+package uk.gov.hmcts.befta.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * A response received through an {@link HttpTransport}, or through RestAssured.
+ */
+public interface HttpTransportResponse {
+
+    int getStatusCode();
+
+    /**
+     * @return the headers of the response, the last value of each header if it
+     *         has more than one
+     */
+    Map<String, String> getHeaders();
+
+    String getContentType();
+
+    /**
+     * @return the body as text, or null if the response has no body
+     */
+    String getBodyAsString() throws IOException;
+
+    /**
+     * @return the body as a stream, or null if the response has no body
+     */
+    InputStream getBodyAsInputStream() throws IOException;
+
+    /**
+     * @return the milliseconds from sending the request until the status line and
+     *         headers of the response arrived, or null if not measured
+     */
+    default Long getTimeToFirstByte() {
+        return null;
+    }
+
+}
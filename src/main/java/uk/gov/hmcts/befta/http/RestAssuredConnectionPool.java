@@ -0,0 +1,75 @@
+package uk.gov.hmcts.befta.http;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import uk.gov.hmcts.befta.TestAutomationConfig;
+
+/**
+ * Makes RestAssured send all the requests of a run through one HTTP client
+ * with a pool of keep-alive connections, instead of a new client, connection
+ * and TLS handshake for every call. The pool is shared by all the scenarios
+ * and limits the connections to each route, i.e. to each base URI, as well as
+ * in total.
+ * <p>
+ * RestAssured 3 only applies its SSL configuration to clients built on the
+ * legacy connection manager API, hence the deprecated classes, which are
+ * referred to by their full names, as imports are not covered by the warning
+ * suppression.
+ */
+@SuppressWarnings("deprecation")
+public class RestAssuredConnectionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestAssuredConnectionPool.class);
+
+    private static org.apache.http.impl.conn.PoolingClientConnectionManager connectionManager;
+
+    private RestAssuredConnectionPool() {
+    }
+
+    /**
+     * Configures RestAssured to use the pool, with relaxed HTTPS validation,
+     * unless it has already been configured.
+     */
+    public static synchronized void configureRestAssured(TestAutomationConfig config) {
+        if (connectionManager != null)
+            return;
+        org.apache.http.impl.conn.PoolingClientConnectionManager pool =
+                new org.apache.http.impl.conn.PoolingClientConnectionManager(
+                        org.apache.http.impl.conn.SchemeRegistryFactory.createDefault());
+        pool.setDefaultMaxPerRoute(config.getHttpMaxConnectionsPerRoute());
+        pool.setMaxTotal(config.getHttpMaxConnectionsTotal());
+        connectionManager = pool;
+
+        RestAssured.useRelaxedHTTPSValidation();
+        // the client is reused, so that RestAssured does not shut the pool down after each call
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig().reuseHttpClientInstance()
+                .httpClientFactory(() -> new org.apache.http.impl.client.DefaultHttpClient(pool))
+                .setParam(org.apache.http.params.CoreConnectionPNames.CONNECTION_TIMEOUT,
+                        config.getHttpConnectTimeout())
+                .setParam(org.apache.http.params.CoreConnectionPNames.SO_TIMEOUT, config.getHttpReadTimeout());
+        RestAssured.config = RestAssured.config.httpClient(httpClientConfig);
+    }
+
+    /**
+     * @return the usage of the pool, or null if RestAssured has not been
+     *         configured to use it
+     */
+    public static synchronized ConnectionPoolMetrics getMetrics() {
+        return connectionManager == null ? null : ConnectionPoolMetrics.of(connectionManager.getTotalStats());
+    }
+
+    /**
+     * Logs the usage of the pool and closes its connections.
+     */
+    public static synchronized void shutdown() {
+        if (connectionManager == null)
+            return;
+        logger.info("RestAssured connection pool: {}", getMetrics());
+        connectionManager.shutdown();
+        connectionManager = null;
+    }
+
+}
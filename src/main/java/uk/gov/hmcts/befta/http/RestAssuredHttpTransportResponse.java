@@ -0,0 +1,44 @@
+package uk.gov.hmcts.befta.http;
+
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.restassured.response.Response;
+
+public class RestAssuredHttpTransportResponse implements HttpTransportResponse {
+
+    private final Response response;
+
+    public RestAssuredHttpTransportResponse(Response response) {
+        this.response = response;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return response.getStatusCode();
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        response.getHeaders().forEach(header -> headers.put(header.getName(), header.getValue()));
+        return headers;
+    }
+
+    @Override
+    public String getContentType() {
+        return response.getContentType();
+    }
+
+    @Override
+    public String getBodyAsString() {
+        return response.getBody() == null ? null : response.getBody().asString();
+    }
+
+    @Override
+    public InputStream getBodyAsInputStream() {
+        return response.getBody() == null ? null : response.getBody().asInputStream();
+    }
+
+}
@@ -0,0 +1,60 @@
+package uk.gov.hmcts.befta.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies of the calls made with a test data object in a load test,
+ * recorded in nanoseconds into an HdrHistogram with three significant digits,
+ * so the percentiles reported are within 0.1% of the recorded latencies.
+ * Latencies can be recorded from any number of threads without locking.
+ */
+public class CallLatency {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+    void record(long nanos) {
+        histogram.recordValue(Math.max(0, nanos));
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    public double getMeanMicros() {
+        return getCount() == 0 ? 0 : histogram.getMean() / 1000;
+    }
+
+    public double getMaxMicros() {
+        return getCount() == 0 ? 0 : histogram.getMaxValue() / 1000.0;
+    }
+
+    public double getP50Micros() {
+        return getPercentileMicros(50);
+    }
+
+    public double getP90Micros() {
+        return getPercentileMicros(90);
+    }
+
+    public double getP99Micros() {
+        return getPercentileMicros(99);
+    }
+
+    public double getP999Micros() {
+        return getPercentileMicros(99.9);
+    }
+
+    public double getPercentileMicros(double percentile) {
+        return getCount() == 0 ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.1fus, p50=%.1fus, p90=%.1fus, p99=%.1fus, p99.9=%.1fus, max=%.1fus",
+                getCount(), getMeanMicros(), getP50Micros(), getP90Micros(), getP99Micros(), getP999Micros(),
+                getMaxMicros());
+    }
+}
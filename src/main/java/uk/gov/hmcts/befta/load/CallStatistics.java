@@ -0,0 +1,65 @@
+package uk.gov.hmcts.befta.load;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts and latencies of the calls made with a test data object in a load
+ * test. Calls are recorded from any number of threads without locking.
+ */
+public class CallStatistics {
+
+    private final String testDataId;
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final CallLatency latency = new CallLatency();
+    private volatile double elapsedSeconds;
+
+    CallStatistics(String testDataId) {
+        this.testDataId = testDataId;
+    }
+
+    void recordSuccess(long nanos) {
+        successes.increment();
+        latency.record(nanos);
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    void setElapsedSeconds(double elapsedSeconds) {
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    public String getTestDataId() {
+        return testDataId;
+    }
+
+    public long getSuccesses() {
+        return successes.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the calls made per second, failed ones included
+     */
+    public double getThroughput() {
+        return elapsedSeconds == 0 ? 0 : (getSuccesses() + getFailures()) / elapsedSeconds;
+    }
+
+    /**
+     * @return the latencies of the successful calls
+     */
+    public CallLatency getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("successes=%d, failures=%d, throughput=%.1f/s, latency: %s", getSuccesses(),
+                getFailures(), getThroughput(), latency);
+    }
+}
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.befta.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+
+import uk.gov.hmcts.befta.util.JsonUtils;
+
+/**
+ * The outcome of a load test: how long it ran, and the statistics of the calls
+ * made with each test data object.
+ */
+public class LoadTestReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestReport.class);
+
+    private final double elapsedSeconds;
+    private final Map<String, CallStatistics> calls;
+
+    LoadTestReport(double elapsedSeconds, Map<String, CallStatistics> calls) {
+        this.elapsedSeconds = elapsedSeconds;
+        this.calls = Collections.unmodifiableMap(calls);
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedSeconds;
+    }
+
+    public Map<String, CallStatistics> getCalls() {
+        return calls;
+    }
+
+    /**
+     * Logs the statistics of each call, and writes the report to the given json
+     * file, unless it is null.
+     */
+    public void export(String reportFile) {
+        logger.info("Load test ran for {} seconds.", String.format("%.1f", elapsedSeconds));
+        calls.forEach((testDataId, statistics) -> logger.info("{}: {}", testDataId, statistics));
+        if (reportFile != null) {
+            try {
+                File parentDirectory = new File(reportFile).getAbsoluteFile().getParentFile();
+                if (parentDirectory != null) {
+                    parentDirectory.mkdirs();
+                }
+                JsonUtils.writeJsonToFile(reportFile, this);
+            } catch (Exception e) {
+                logger.warn("Could not write the load test report {}.", reportFile, e);
+            }
+        }
+    }
+}
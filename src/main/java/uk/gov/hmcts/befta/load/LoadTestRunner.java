@@ -0,0 +1,312 @@
+package uk.gov.hmcts.befta.load;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import uk.gov.hmcts.befta.exception.FunctionalTestException;
+
+/**
+ * Replays test data calls from a number of concurrent callers for a given
+ * duration. Each caller picks the test data of its next call at random, in
+ * proportion to the weights of the test data, and makes it as soon as its
+ * previous call completes. Callers are started evenly over the ramp-up period,
+ * which is part of the duration. Callers either block a thread each for their
+ * calls, or, run asynchronously, keep their calls in flight on a few shared
+ * threads.
+ */
+public class LoadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private static final long DEFAULT_IN_FLIGHT_GRACE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * Makes a call with the given test data on the thread of a single caller.
+     */
+    public interface Caller {
+        /**
+         * @return the latency of the call in nanoseconds
+         */
+        long call(String testDataId) throws Exception;
+    }
+
+    /**
+     * Starts a call with the given test data without waiting for it to
+     * complete.
+     */
+    public interface AsyncCaller {
+        /**
+         * @return the latency of the call in nanoseconds, once it completes
+         */
+        CompletableFuture<Long> call(String testDataId) throws Exception;
+    }
+
+    private final String[] testDataIds;
+    private final int[] cumulativeWeights;
+    private final int concurrency;
+    private final long durationMillis;
+    private final long rampUpMillis;
+    private final long inFlightGraceMillis;
+
+    public LoadTestRunner(Map<String, Integer> weightedTestDataIds, int concurrency, long durationMillis,
+            long rampUpMillis) {
+        this(weightedTestDataIds, concurrency, durationMillis, rampUpMillis, DEFAULT_IN_FLIGHT_GRACE_MILLIS);
+    }
+
+    LoadTestRunner(Map<String, Integer> weightedTestDataIds, int concurrency, long durationMillis,
+            long rampUpMillis, long inFlightGraceMillis) {
+        if (weightedTestDataIds.isEmpty()) {
+            throw new FunctionalTestException("No test data to replay in the load test.");
+        }
+        testDataIds = new String[weightedTestDataIds.size()];
+        cumulativeWeights = new int[weightedTestDataIds.size()];
+        int index = 0;
+        int totalWeight = 0;
+        for (Map.Entry<String, Integer> weightedTestDataId : weightedTestDataIds.entrySet()) {
+            if (weightedTestDataId.getValue() <= 0) {
+                throw new FunctionalTestException("Weight of " + weightedTestDataId.getKey() + " is not positive.");
+            }
+            totalWeight += weightedTestDataId.getValue();
+            testDataIds[index] = weightedTestDataId.getKey();
+            cumulativeWeights[index++] = totalWeight;
+        }
+        this.concurrency = Math.max(1, concurrency);
+        this.durationMillis = durationMillis;
+        this.rampUpMillis = Math.min(rampUpMillis, durationMillis);
+        this.inFlightGraceMillis = inFlightGraceMillis;
+    }
+
+    /**
+     * Runs the load test, creating a caller for each of the concurrent threads,
+     * and waits for all the calls to complete.
+     */
+    public LoadTestReport run(Supplier<Caller> callerFactory) {
+        Map<String, CallStatistics> statistics = createStatistics();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+                new ThreadFactoryBuilder().setNameFormat("befta-load-%d").setDaemon(true).build());
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        try {
+            List<Future<?>> callers = new ArrayList<>();
+            for (int callerIndex = 0; callerIndex < concurrency; callerIndex++) {
+                long startDelayNanos = TimeUnit.MILLISECONDS.toNanos(rampUpMillis * callerIndex / concurrency);
+                callers.add(executor.submit(() -> {
+                    runCaller(callerFactory, startNanos + startDelayNanos, deadlineNanos, statistics);
+                    return null;
+                }));
+            }
+            for (Future<?> caller : callers) {
+                caller.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FunctionalTestException("Load test interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new FunctionalTestException("Load test failed.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return createReport(startNanos, statistics);
+    }
+
+    /**
+     * Runs the load test, creating an asynchronous caller for each of the
+     * concurrent calls to keep in flight, and waits for all the calls to
+     * complete. Calls are started, and each caller starts its next call once
+     * the previous one completes, on the given number of threads. Calls still
+     * in flight a grace period after the end of the test, which they can be
+     * with no read timeout set on the transport, are counted as failures and
+     * not waited for.
+     */
+    public LoadTestReport runAsynchronously(Supplier<AsyncCaller> callerFactory, int threads) {
+        Map<String, CallStatistics> statistics = createStatistics();
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(Math.max(1, threads),
+                new ThreadFactoryBuilder().setNameFormat("befta-load-%d").setDaemon(true).build());
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        Map<Object, String> callsInFlight = new ConcurrentHashMap<>();
+        try {
+            List<CompletableFuture<Void>> callers = new ArrayList<>();
+            for (int callerIndex = 0; callerIndex < concurrency; callerIndex++) {
+                long startDelayNanos = TimeUnit.MILLISECONDS.toNanos(rampUpMillis * callerIndex / concurrency);
+                CompletableFuture<Void> caller = new CompletableFuture<>();
+                executor.schedule(() -> startAsyncCaller(callerFactory,
+                        new AsyncCallerRun(deadlineNanos, statistics, callsInFlight, executor, caller)),
+                        startDelayNanos, TimeUnit.NANOSECONDS);
+                callers.add(caller);
+            }
+            long waitNanos = deadlineNanos - System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(inFlightGraceMillis);
+            CompletableFuture.allOf(callers.toArray(new CompletableFuture<?>[0])).get(waitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            recordCallsInFlightAsFailures(callsInFlight, statistics);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FunctionalTestException("Load test interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new FunctionalTestException("Load test failed.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return createReport(startNanos, statistics);
+    }
+
+    private Map<String, CallStatistics> createStatistics() {
+        Map<String, CallStatistics> statistics = new LinkedHashMap<>();
+        for (String testDataId : testDataIds) {
+            statistics.put(testDataId, new CallStatistics(testDataId));
+        }
+        return statistics;
+    }
+
+    private LoadTestReport createReport(long startNanos, Map<String, CallStatistics> statistics) {
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        statistics.values().forEach(callStatistics -> callStatistics.setElapsedSeconds(elapsedSeconds));
+        return new LoadTestReport(elapsedSeconds, statistics);
+    }
+
+    private void runCaller(Supplier<Caller> callerFactory, long startAtNanos, long deadlineNanos,
+            Map<String, CallStatistics> statistics) throws InterruptedException {
+        long startDelayNanos = startAtNanos - System.nanoTime();
+        if (startDelayNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(startDelayNanos);
+        }
+        Caller caller = callerFactory.get();
+        while (System.nanoTime() < deadlineNanos) {
+            String testDataId = pickTestDataId();
+            CallStatistics callStatistics = statistics.get(testDataId);
+            try {
+                callStatistics.recordSuccess(caller.call(testDataId));
+            } catch (Exception | AssertionError e) {
+                recordFailure(testDataId, callStatistics, e);
+            }
+        }
+    }
+
+    private void startAsyncCaller(Supplier<AsyncCaller> callerFactory, AsyncCallerRun run) {
+        try {
+            callNext(callerFactory.get(), run);
+        } catch (Throwable e) {
+            run.callerDone.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Starts the next call of the given caller, and once it completes, hands
+     * the call after it back to the executor, so as not to hold up the thread
+     * it completed on. Anything going wrong other than the call failing ends
+     * the caller with the failure, so that it fails the test instead of the
+     * caller stopping unnoticed.
+     */
+    private void callNext(AsyncCaller caller, AsyncCallerRun run) {
+        if (System.nanoTime() >= run.deadlineNanos) {
+            run.callerDone.complete(null);
+            return;
+        }
+        String testDataId = pickTestDataId();
+        CallStatistics callStatistics = run.statistics.get(testDataId);
+        CompletableFuture<Long> started;
+        try {
+            started = Objects.requireNonNull(caller.call(testDataId), "No call started with " + testDataId);
+        } catch (Exception | AssertionError e) {
+            started = new CompletableFuture<>();
+            started.completeExceptionally(e);
+        }
+        // keyed by a token of its own, as a caller may return the same future for different calls
+        Object callInFlight = new Object();
+        run.callsInFlight.put(callInFlight, testDataId);
+        started.whenComplete((nanos, failure) -> {
+            try {
+                // a call counted as a failure while still in flight is not counted again
+                if (run.callsInFlight.remove(callInFlight) == null)
+                    return;
+                if (failure == null) {
+                    callStatistics.recordSuccess(nanos);
+                } else {
+                    recordFailure(testDataId, callStatistics,
+                            failure instanceof CompletionException ? failure.getCause() : failure);
+                }
+                run.executor.execute(() -> {
+                    try {
+                        callNext(caller, run);
+                    } catch (Throwable e) {
+                        run.callerDone.completeExceptionally(e);
+                    }
+                });
+            } catch (Throwable e) {
+                run.callerDone.completeExceptionally(e);
+            }
+        });
+    }
+
+    private void recordCallsInFlightAsFailures(Map<Object, String> callsInFlight,
+            Map<String, CallStatistics> statistics) {
+        int counted = 0;
+        for (Object callInFlight : callsInFlight.keySet()) {
+            String testDataId = callsInFlight.remove(callInFlight);
+            if (testDataId != null) {
+                statistics.get(testDataId).recordFailure();
+                counted++;
+            }
+        }
+        logger.warn("{} calls still in flight {} ms after the end of the load test, counted as failures.", counted,
+                inFlightGraceMillis);
+    }
+
+    private void recordFailure(String testDataId, CallStatistics callStatistics, Throwable failure) {
+        if (callStatistics.getFailures() == 0) {
+            logger.warn("Call with {} failed in the load test.", testDataId, failure);
+        }
+        callStatistics.recordFailure();
+    }
+
+    /**
+     * What the asynchronous callers of a run share, and the completion of one
+     * of them.
+     */
+    private static class AsyncCallerRun {
+        private final long deadlineNanos;
+        private final Map<String, CallStatistics> statistics;
+        private final Map<Object, String> callsInFlight;
+        private final ExecutorService executor;
+        private final CompletableFuture<Void> callerDone;
+
+        private AsyncCallerRun(long deadlineNanos, Map<String, CallStatistics> statistics,
+                Map<Object, String> callsInFlight, ExecutorService executor,
+                CompletableFuture<Void> callerDone) {
+            this.deadlineNanos = deadlineNanos;
+            this.statistics = statistics;
+            this.callsInFlight = callsInFlight;
+            this.executor = executor;
+            this.callerDone = callerDone;
+        }
+    }
+
+    private String pickTestDataId() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int index = 0; index < cumulativeWeights.length; index++) {
+            if (pick < cumulativeWeights[index])
+                return testDataIds[index];
+        }
+        return testDataIds[testDataIds.length - 1];
+    }
+}
@@ -50,6 +50,10 @@ public interface BackEndFunctionalTestAutomationDSL {
     // "the response has all the details as expected"
     void verifyThatTheResponseHasAllTheDetailsAsExpected() throws IOException;
 
+    // DSL Element:
+    // "the response is received within [<maximum response time in milliseconds>] milliseconds"
+    void verifyThatTheResponseWasReceivedWithinAGivenNumberOfMilliseconds(String maxResponseTime);
+
     // DSL Element:
     // "the response [<some specification about response data>]"
     void verifyTheResponseInTheContextWithAParticularSpecification(String responseSpecification);
@@ -61,6 +65,11 @@ public interface BackEndFunctionalTestAutomationDSL {
     // another call [<some spec about the overall call data>] will get the expected response as in [<some test data unique id>]
     void performAndVerifyTheExpectedResponseForAnApiCall(String testDataSpec, String testDataId) throws IOException;
 
+    // a call [<some spec about the overall call data>] will eventually get the expected response as in [<some test data unique id>] within [<timeout in seconds>] seconds
+    // another call [<some spec about the overall call data>] will eventually get the expected response as in [<some test data unique id>] within [<timeout in seconds>] seconds
+    void performAndVerifyTheExpectedResponseForAnApiCallEventually(String testDataSpec, String testDataId,
+            String timeout) throws IOException, InterruptedException;
+
     // DSL Element:
     // "a wait time of [<wait time in seconds>] seconds [<some spec to describe the purpose of waiting>]"
     // "a wait time is allowed for [<wait time in seconds>] seconds [<some spec to describe the purpose of waiting>]"
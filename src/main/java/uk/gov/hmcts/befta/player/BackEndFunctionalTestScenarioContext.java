@@ -1,8 +1,8 @@
 package uk.gov.hmcts.befta.player;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import io.cucumber.java.Scenario;
@@ -30,13 +30,15 @@ public class BackEndFunctionalTestScenarioContext {
 
     private RequestSpecification theRequest;
 
+    private long theRequestBuildTime;
+
     private ResponseData theResponse;
 
     private Function<Object, Object> customValues = (valueKey -> calculateCustomValue(valueKey));
 
     private BackEndFunctionalTestScenarioContext parentContext;
 
-    private Map<String, BackEndFunctionalTestScenarioContext> childContexts = new HashMap<>();
+    private Map<String, BackEndFunctionalTestScenarioContext> childContexts = new ConcurrentHashMap<>();
 
     protected String contextId = null;
 
@@ -44,6 +46,8 @@ public class BackEndFunctionalTestScenarioContext {
 
     private DynamicValueInjector dynamicValueInjector;
 
+    private RequestTemplate requestTemplate;
+
     public synchronized void addChildContext(BackEndFunctionalTestScenarioContext childContext) {
         addChildContext(childContext.getTestDataId(), childContext);
     }
@@ -66,6 +70,7 @@ public class BackEndFunctionalTestScenarioContext {
             throw new FunctionalTestException("No test data found with ID [" + testDataId + "].");
         }
         testData = new HttpTestData(original);
+        requestTemplate = RequestTemplate.of(original);
         dynamicValueInjector = DynamicValueInjectorFactory.create(BeftaMain.getAdapter(), testData, this);
     }
 
@@ -132,6 +137,14 @@ public class BackEndFunctionalTestScenarioContext {
         return testData;
     }
 
+    /**
+     * @return the template of the request of the test data, shared by all the
+     *         contexts of the same test data
+     */
+    synchronized RequestTemplate getRequestTemplate() {
+        return requestTemplate;
+    }
+
     public synchronized RequestSpecification getTheRequest() {
         return theRequest;
     }
@@ -140,6 +153,17 @@ public class BackEndFunctionalTestScenarioContext {
         this.theRequest = theRequest;
     }
 
+    /**
+     * @return the milliseconds spent building the request
+     */
+    public synchronized long getTheRequestBuildTime() {
+        return theRequestBuildTime;
+    }
+
+    public synchronized void setTheRequestBuildTime(long theRequestBuildTime) {
+        this.theRequestBuildTime = theRequestBuildTime;
+    }
+
     public synchronized ResponseData getTheResponse() {
         return theResponse;
     }
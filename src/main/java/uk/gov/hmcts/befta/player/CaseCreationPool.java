@@ -0,0 +1,163 @@
+package uk.gov.hmcts.befta.player;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import uk.gov.hmcts.befta.TestAutomationConfig;
+import uk.gov.hmcts.befta.factory.BeftaScenarioContextFactory;
+
+/**
+ * Creates cases ahead of the scenarios that need them, on background threads,
+ * keeping a number of them ready for each of the case creation data ids
+ * configured through {@link TestAutomationConfig#getCasePoolDataIds()}. A case
+ * is created as the case creation steps create it, token creation included,
+ * but in a context of its own, which holds the contexts of both calls until a
+ * scenario takes them over. Each case taken is replaced with a new one.
+ * <p>
+ * Only case creation data whose values do not depend on the scenario using
+ * the case can be pooled.
+ */
+public class CaseCreationPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaseCreationPool.class);
+
+    private static CaseCreationPool instance;
+
+    interface CaseCreator {
+        /**
+         * @return a context holding the contexts of the calls that created the case
+         */
+        BackEndFunctionalTestScenarioContext create(String caseCreationDataId) throws Exception;
+    }
+
+    private final int size;
+    private final CaseCreator caseCreator;
+    private final ExecutorService executor;
+    private final Map<String, Queue<BackEndFunctionalTestScenarioContext>> readyCases = new LinkedHashMap<>();
+    // cases ready or being created, per case creation data id
+    private final Map<String, AtomicInteger> pooledCases = new LinkedHashMap<>();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder taken = new LongAdder();
+    private final LongAdder missed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    CaseCreationPool(Collection<String> caseCreationDataIds, int size, int threads, CaseCreator caseCreator) {
+        this.size = size;
+        this.caseCreator = caseCreator;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads),
+                new ThreadFactoryBuilder().setNameFormat("befta-case-pool-%d").setDaemon(true).build());
+        for (String caseCreationDataId : caseCreationDataIds) {
+            readyCases.put(caseCreationDataId, new ConcurrentLinkedQueue<>());
+            pooledCases.put(caseCreationDataId, new AtomicInteger());
+        }
+    }
+
+    /**
+     * Starts creating cases for the configured case creation data ids, unless
+     * none are configured or the pool has already been started.
+     */
+    public static synchronized void startIfConfigured(TestAutomationConfig config) {
+        if (instance != null || config.getCasePoolDataIds().isEmpty())
+            return;
+        instance = new CaseCreationPool(config.getCasePoolDataIds(), config.getCasePoolSize(),
+                config.getCasePoolThreads(), caseCreationDataId -> {
+                    BackEndFunctionalTestScenarioContext holder = BeftaScenarioContextFactory
+                            .createBeftaScenarioContext();
+                    new DefaultBackEndFunctionalTestScenarioPlayer().createCase(holder, null, caseCreationDataId);
+                    return holder;
+                });
+        instance.fill();
+    }
+
+    /**
+     * @return the pool started for the run, or null if there is none
+     */
+    static synchronized CaseCreationPool getInstance() {
+        return instance;
+    }
+
+    /**
+     * Logs how many cases were created and taken, and stops creating cases.
+     */
+    public static synchronized void shutdown() {
+        if (instance == null)
+            return;
+        instance.close();
+        instance = null;
+    }
+
+    void fill() {
+        readyCases.keySet().forEach(this::topUp);
+    }
+
+    /**
+     * @return the context holding a case created as in the given data, or null
+     *         if the data is not pooled or no case is ready yet
+     */
+    BackEndFunctionalTestScenarioContext take(String caseCreationDataId) {
+        Queue<BackEndFunctionalTestScenarioContext> cases = readyCases.get(caseCreationDataId);
+        if (cases == null)
+            return null;
+        BackEndFunctionalTestScenarioContext holder = cases.poll();
+        if (holder == null) {
+            missed.increment();
+        } else {
+            taken.increment();
+            pooledCases.get(caseCreationDataId).decrementAndGet();
+        }
+        topUp(caseCreationDataId);
+        return holder;
+    }
+
+    private void topUp(String caseCreationDataId) {
+        AtomicInteger pooled = pooledCases.get(caseCreationDataId);
+        int current;
+        // claims all the missing cases at once, so that failed creations are not replaced here
+        do {
+            current = pooled.get();
+            if (current >= size)
+                return;
+        } while (!pooled.compareAndSet(current, size));
+        for (int missing = size - current; missing > 0; missing--) {
+            executor.execute(() -> create(caseCreationDataId));
+        }
+    }
+
+    private void create(String caseCreationDataId) {
+        try {
+            readyCases.get(caseCreationDataId).add(caseCreator.create(caseCreationDataId));
+            created.increment();
+        } catch (Exception | AssertionError e) {
+            // replaced when the next case is taken or missed
+            pooledCases.get(caseCreationDataId).decrementAndGet();
+            failed.increment();
+            logger.warn("Could not create a case as in {} for the case creation pool.", caseCreationDataId, e);
+        }
+    }
+
+    /**
+     * @return the number of creations failed so far, each of which has already
+     *         given up its place in the pool
+     */
+    long getFailedCreations() {
+        return failed.sum();
+    }
+
+    void close() {
+        executor.shutdownNow();
+        logger.info("Case creation pool: created={}, taken={}, missed={}, failed={}", created.sum(), taken.sum(),
+                missed.sum(), failed.sum());
+    }
+}
@@ -1,43 +1,58 @@
 package uk.gov.hmcts.befta.player;
 
 import org.apache.commons.collections4.map.HashedMap;
+import org.apache.hc.core5.net.URIBuilder;
 import org.apache.http.impl.EnglishReasonPhraseCatalog;
-import org.aspectj.util.FileUtil;
 import org.junit.Assert;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
+import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import io.restassured.RestAssured;
-import io.restassured.http.Method;
-import io.restassured.response.Response;
+import io.restassured.internal.util.IOUtils;
 import io.restassured.specification.QueryableRequestSpecification;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.SpecificationQuerier;
 import uk.gov.hmcts.befta.BeftaMain;
 import uk.gov.hmcts.befta.TestAutomationConfig;
 import uk.gov.hmcts.befta.TestAutomationConfig.ResponseHeaderCheckPolicy;
+import uk.gov.hmcts.befta.TestAutomationConfig.ScenarioLogLevel;
 import uk.gov.hmcts.befta.data.FileInBody;
 import uk.gov.hmcts.befta.data.HttpTestData;
 import uk.gov.hmcts.befta.data.RequestData;
 import uk.gov.hmcts.befta.data.ResponseData;
+import uk.gov.hmcts.befta.data.ResponseTimings;
 import uk.gov.hmcts.befta.data.UserData;
 import uk.gov.hmcts.befta.exception.FeatureToggleCheckFailureException;
 import uk.gov.hmcts.befta.exception.FunctionalTestException;
@@ -45,11 +60,16 @@ import uk.gov.hmcts.befta.exception.InvalidTestDataException;
 import uk.gov.hmcts.befta.exception.UnconfirmedApiCallException;
 import uk.gov.hmcts.befta.exception.UnconfirmedDataSpecException;
 import uk.gov.hmcts.befta.factory.BeftaScenarioContextFactory;
+import uk.gov.hmcts.befta.factory.HttpTransportFactory;
 import uk.gov.hmcts.befta.featuretoggle.FeatureToggleInfo;
 import uk.gov.hmcts.befta.featuretoggle.FeatureToggleService;
+import uk.gov.hmcts.befta.http.HttpTransport;
+import uk.gov.hmcts.befta.http.HttpTransportRequest;
+import uk.gov.hmcts.befta.http.HttpTransportResponse;
+import uk.gov.hmcts.befta.http.RestAssuredConnectionPool;
+import uk.gov.hmcts.befta.http.RestAssuredHttpTransportResponse;
 import uk.gov.hmcts.befta.util.BeftaUtils;
 import uk.gov.hmcts.befta.util.EnvironmentVariableUtils;
-import uk.gov.hmcts.befta.util.JsonUtils;
 import uk.gov.hmcts.befta.util.MapVerificationResult;
 import uk.gov.hmcts.befta.util.MapVerifier;
 
@@ -57,20 +77,30 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
 
     static final String PREREQUISITE_SPEC = "As a prerequisite";
 
+    // backoff between the attempts of calls expected to get a response eventually
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 100;
+    private static final long MAX_RETRY_DELAY_MILLIS = 5000;
+
     private Logger logger = LoggerFactory.getLogger(DefaultBackEndFunctionalTestScenarioPlayer.class);
 
     private final BackEndFunctionalTestScenarioContext scenarioContext;
     private Scenario scenario;
     private ObjectMapper mapper = new ObjectMapper();
+    // nothing is logged outside of a scenario, e.g. in load tests
+    private ScenarioLogger scenarioLogger = new ScenarioLogger(null, ScenarioLogLevel.OFF, 0);
 
     public DefaultBackEndFunctionalTestScenarioPlayer() {
-        RestAssured.useRelaxedHTTPSValidation();
+        RestAssuredConnectionPool.configureRestAssured(BeftaMain.getConfig());
         scenarioContext = BeftaScenarioContextFactory.createBeftaScenarioContext();
+        CaseCreationPool.startIfConfigured(BeftaMain.getConfig());
     }
 
     @Before
     public void cucumberPrepare(Scenario scenario) {
         this.scenario = scenario;
+        TestAutomationConfig config = BeftaMain.getConfig();
+        this.scenarioLogger = new ScenarioLogger(scenario, config.getScenarioLogLevel(),
+                config.getScenarioLogPayloadLimit());
         FeatureToggleService toggleService = BeftaMain.getFeatureToggleService();
         if (toggleService != null) {
             try {
@@ -87,6 +117,15 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
         }
     }
 
+    @After
+    public void cucumberFinish(Scenario scenario) {
+        if (scenario.isFailed()) {
+            scenarioLogger.logRetainedPayloads();
+        } else {
+            scenarioLogger.flush();
+        }
+    }
+
     @Override
     @Given("an appropriate test context as detailed in the test data source")
     public void initializeAppropriateTestContextAsDetailedInTheTestDataSource() {
@@ -113,15 +152,36 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
     }
 
     private void createCase(String specAboutCase, String caseCreationDataId) throws IOException {
+        CaseCreationPool casePool = CaseCreationPool.getInstance();
+        BackEndFunctionalTestScenarioContext preCreatedCase = casePool == null ? null
+                : casePool.take(caseCreationDataId);
+        if (preCreatedCase == null) {
+            createCase(this.scenarioContext, specAboutCase, caseCreationDataId);
+            return;
+        }
+        // the contexts of the token and case creation calls become child contexts of the scenario
+        new LinkedHashMap<>(preCreatedCase.getChildContexts()).forEach(this.scenarioContext::addChildContext);
+        verifyTheRequestInTheContextWithAParticularSpecification(
+                this.scenarioContext.getChildContexts().get(caseCreationDataId), specAboutCase);
+        logToScenario("Case taken from the pre-created ones as in [" + caseCreationDataId + "]");
+    }
+
+    /**
+     * Creates a case with the accompanying token creation data of the given case
+     * creation data, as child contexts of the given context. The specification
+     * about the case is not confirmed if it is null.
+     */
+    void createCase(BackEndFunctionalTestScenarioContext parentContext, String specAboutCase,
+            String caseCreationDataId) throws IOException {
         String accompanyingTokenCreationDataId = caseCreationDataId + "_Token_Creation";
         HttpTestData tokenCreationData = BackEndFunctionalTestScenarioContext.DATA_SOURCE
                 .getDataForTestCall(accompanyingTokenCreationDataId);
         if (tokenCreationData == null) {
             accompanyingTokenCreationDataId = "Standard_Token_Creation_Data_For_Case_Creation";
         }
-        performAndVerifyTheExpectedResponseForAnApiCall("to create a token for case creation",
-                accompanyingTokenCreationDataId);
-        performAndVerifyTheExpectedResponseForAnApiCall(specAboutCase, caseCreationDataId);
+        performAndVerifyTheExpectedResponseForAnApiCall(parentContext, "to create a token for case creation",
+                accompanyingTokenCreationDataId, null);
+        performAndVerifyTheExpectedResponseForAnApiCall(parentContext, specAboutCase, caseCreationDataId, null);
     }
 
     @Override
@@ -145,7 +205,7 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
         } else {
             String message = "The user [" + specificationAboutAUser
                     + "] will not be verified with authentication as it is not listed in test data.";
-            scenario.log(message);
+            logToScenario(message);
             logger.warn(message);
         }
     }
@@ -174,12 +234,18 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
     private void prepareARequestWithAppropriateValues(BackEndFunctionalTestScenarioContext scenarioContext)
             throws IOException {
         scenarioContext.injectDataFromContextBeforeApiCall();
-        RequestSpecification raRequest = buildRestAssuredRequestWith(scenarioContext.getTestData());
-
-        scenarioContext.setTheRequest(raRequest);
-        scenario.log(
-                "Request prepared with the following variables: "
-                + JsonUtils.getPrettyJsonFromObject(scenarioContext.getTestData().getRequest()));
+        long buildStart = System.nanoTime();
+        HttpTestData testData = scenarioContext.getTestData();
+        RequestTemplate template = requestTemplateOf(scenarioContext);
+        if (transportFor(testData) == null) {
+            scenarioContext.setTheRequest(buildRestAssuredRequestWith(testData, template));
+        } else {
+            // the transport request is built on submission, only the method is checked here
+            template.getMethod();
+        }
+        scenarioContext.setTheRequestBuildTime(millisSince(buildStart));
+        scenarioLogger.logPayload("Request prepared with the following variables: ",
+                scenarioContext.getTestData().getRequest());
     }
 
     private void runPrerequisitesSpecifiedInTheContext(final BackEndFunctionalTestScenarioContext scenarioContext)
@@ -188,33 +254,31 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
         List<Object> prerequisites = scenarioContext.getTestData().getPrerequisites();
 
         if (prerequisites != null && !prerequisites.isEmpty()) {
-            scenario.log("Prerequisite processing started: [" + scenarioContext.getContextId() + "]");
-
-            // prerequisites as list of objects
-            for (Object prerequisite : prerequisites) {
-                // if prerequisite is just a string
-                if (prerequisite instanceof String) {
-                    String prerequisiteAsString = (String) prerequisite;
-                    runSinglePrerequisite(scenarioContext, prerequisiteAsString, prerequisiteAsString);
-
-                    // if prerequisites is a map of pairs: "context_id": "test_data_id"
-                } else if (prerequisite instanceof Map) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, String> prerequisiteAsMap = (Map<String, String>) prerequisite;
-                    for (Map.Entry<String, String> prerequisiteAsEntry : prerequisiteAsMap.entrySet()) {
-                        runSinglePrerequisite(scenarioContext, prerequisiteAsEntry.getKey(),
-                                prerequisiteAsEntry.getValue());
-                    }
-
-                } else {
-                    throw new FunctionalTestException("Unrecognised prerequisite data type");
+            logToScenario("Prerequisite processing started: [" + scenarioContext.getContextId() + "]");
+
+            // prerequisites as test data ids, or maps of pairs: "context_id": "test_data_id"
+            PrerequisitePlan plan = PrerequisitePlan.of(prerequisites);
+            int prerequisiteThreads = BeftaMain.getConfig().getPrerequisiteThreads();
+            if (prerequisiteThreads > 1 && plan.getPrerequisites().size() > 1) {
+                plan.analyseDependencies(BackEndFunctionalTestScenarioContext.DATA_SOURCE::getDataForTestCall);
+                plan.runConcurrently(
+                        (subcontextId, testDataId) -> runSinglePrerequisite(scenarioContext, subcontextId, testDataId),
+                        prerequisiteThreads);
+            } else {
+                for (PrerequisitePlan.Prerequisite prerequisite : plan.getPrerequisites()) {
+                    runSinglePrerequisite(scenarioContext, prerequisite.getContextId(), prerequisite.getTestDataId());
                 }
             }
 
-            scenario.log("Prerequisite processing complete: [" + scenarioContext.getContextId() + "]");
+            logToScenario("Prerequisite processing complete: [" + scenarioContext.getContextId() + "]");
+            scenarioLogger.flush();
         }
     }
 
+    private void logToScenario(String message) {
+        scenarioLogger.log(message);
+    }
+
     private void runSinglePrerequisite(final BackEndFunctionalTestScenarioContext parentContext, String subcontextId,
             String testDataId) throws IOException {
 
@@ -222,12 +286,12 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
 
         // avoid undesirable re-execution
         if (shouldExecutePrerequisite(parentContext, subcontextId)) {
-            scenario.log("Prerequisite: [" + parentContext.getContextId() + "].[" + subcontextId
+            logToScenario("Prerequisite: [" + parentContext.getContextId() + "].[" + subcontextId
                     + "] from ["
                     + testDataId + "]");
             performAndVerifyTheExpectedResponseForAnApiCall(parentContext, PREREQUISITE_SPEC, testDataId, subcontextId);
         } else {
-            scenario.log("Skipping prerequisite: [" + parentContext.getContextId() + "].[" + subcontextId + "]");
+            logToScenario("Skipping prerequisite: [" + parentContext.getContextId() + "].[" + subcontextId + "]");
         }
     }
 
@@ -249,14 +313,16 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
         }
     }
 
-    private RequestSpecification buildRestAssuredRequestWith(HttpTestData testData) throws IOException {
+    private RequestTemplate requestTemplateOf(BackEndFunctionalTestScenarioContext scenarioContext) {
+        RequestTemplate template = scenarioContext.getRequestTemplate();
+        return template == null ? new RequestTemplate(scenarioContext.getTestData()) : template;
+    }
+
+    private RequestSpecification buildRestAssuredRequestWith(HttpTestData testData, RequestTemplate template)
+            throws IOException {
         RequestSpecification aRequest = RestAssured.given();
 
-        try {
-            Method.valueOf(testData.getMethod().toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new FunctionalTestException("Method '" + testData.getMethod() + "' in test data file not recognised");
-        }
+        template.getMethod();
 
         RequestData requestData = testData.getRequest();
         if (requestData.getHeaders() != null) {
@@ -272,16 +338,15 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
         }
 
         if (requestData.getBody() != null) {
-            buildRequestBody(aRequest, requestData);
+            buildRequestBody(aRequest, requestData, template);
         }
         return aRequest;
     }
 
-    private void buildRequestBody(RequestSpecification request, RequestData requestData) throws IOException {
+    private void buildRequestBody(RequestSpecification request, RequestData requestData, RequestTemplate template)
+            throws IOException {
 
-        Object requestBodyContent = requestData.getBody();
-        if (requestData.getBody().containsKey("arrayInMap"))
-            requestBodyContent = requestData.getBody().get("arrayInMap");
+        Object requestBodyContent = RequestTemplate.bodyContentOf(requestData.getBody());
 
         if (requestData.isMultipart()) {
             if (requestBodyContent instanceof List<?>) {
@@ -293,7 +358,7 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
 
             }
         } else {
-            request.body(mapper.writeValueAsBytes(requestBodyContent));
+            request.body(template.bodyBytes(requestData));
         }
     }
 
@@ -303,19 +368,16 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
         String controlName = multipartInfo.get("key");
         Object multipartValue = multipartInfo.get("value");
 
-        File fileToUpload = null;
         try {
             if (multipartInfo.containsKey("filePath")) {
-                fileToUpload = BeftaUtils.getClassPathResourceIntoTemporaryFile(multipartInfo.get("filePath"));
-                multipartValue = fileToUpload;
+                String filePath = multipartInfo.get("filePath");
+                String fileName = filePath.substring(filePath.lastIndexOf('/') + 1);
+                request.multiPart(controlName, fileName, BeftaUtils.getClassPathResourceAsBytes(filePath));
+            } else {
+                request.multiPart(controlName, multipartValue);
             }
-            request.multiPart(controlName, multipartValue);
         } catch (Exception e) {
             throw new FunctionalTestException("Failed to put multi-part into the request: " + controlName, e);
-        } finally {
-            if (fileToUpload != null) {
-                fileToUpload.deleteOnExit();
-            }
         }
     }
 
@@ -340,136 +402,273 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
 
     private void submitTheRequestToCallAnOperationOfAProduct(BackEndFunctionalTestScenarioContext scenarioContext,
             String operationName, String productName) throws IOException {
+        joinTheCall(submitTheRequestAsynchronously(scenarioContext, operationName, productName, Runnable::run));
+    }
+
+    /**
+     * Submits the request in the context as
+     * {@link #submitTheRequestToCallAnOperationOfAProduct(String, String)} does,
+     * without waiting for the response if it is sent through an HTTP transport.
+     * The response is read into the context on the given executor.
+     */
+    private CompletableFuture<ResponseData> submitTheRequestAsynchronously(
+            BackEndFunctionalTestScenarioContext scenarioContext, String operationName, String productName,
+            Executor responseExecutor) throws IOException {
         boolean isCorrectOperation = scenarioContext.getTestData().meetsOperationOfProduct(productName, operationName);
         if (!isCorrectOperation) {
             throw new UnconfirmedApiCallException(productName, operationName);
         }
 
-        RequestSpecification theRequest = scenarioContext.getTheRequest();
-        QueryableRequestSpecification queryableRequest = SpecificationQuerier.query(theRequest);
-
         HttpTestData testData = scenarioContext.getTestData();
-        String uri = testData.getUri();
+        HttpTransport transport = transportFor(testData);
+
+        ResponseTimings timings = new ResponseTimings();
+        timings.setRequestBuildTime(scenarioContext.getTheRequestBuildTime());
+        if (transport != null) {
+            long buildStart = System.nanoTime();
+            HttpTransportRequest transportRequest = buildHttpTransportRequestWith(testData,
+                    requestTemplateOf(scenarioContext));
+            timings.setRequestBuildTime(timings.getRequestBuildTime() + millisSince(buildStart));
+            String calledMethodAndUri = transportRequest.getMethod() + " " + transportRequest.getUri();
+            long sendStart = System.nanoTime();
+            return transport.send(transportRequest)
+                    .whenComplete((response, failure) -> timings.recordSendTime(System.nanoTime() - sendStart))
+                    .handleAsync((response, failure) -> {
+                        if (failure != null) {
+                            throw failureToCall(calledMethodAndUri, failure);
+                        }
+                        try {
+                            return receiveTheResponse(scenarioContext, response, timings, calledMethodAndUri);
+                        } catch (IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, responseExecutor);
+        } else {
+            RequestSpecification theRequest = scenarioContext.getTheRequest();
+            QueryableRequestSpecification queryableRequest = SpecificationQuerier.query(theRequest);
+
+            String uri = testData.getUri();
+
+            if (!uri.trim().toLowerCase().startsWith("http:")) {
+                theRequest.baseUri(TestAutomationConfig.INSTANCE.getTestUrl());
+            }
 
-        if (!uri.trim().toLowerCase().startsWith("http:")) {
-            theRequest.baseUri(TestAutomationConfig.INSTANCE.getTestUrl());
+            long sendStart = System.nanoTime();
+            HttpTransportResponse response = new RestAssuredHttpTransportResponse(
+                    theRequest.request(testData.getMethod(), uri));
+            timings.recordSendTime(System.nanoTime() - sendStart);
+            return CompletableFuture.completedFuture(receiveTheResponse(scenarioContext, response, timings,
+                    queryableRequest.getMethod() + " " + queryableRequest.getURI()));
         }
+    }
+
+    private ResponseData receiveTheResponse(BackEndFunctionalTestScenarioContext scenarioContext,
+            HttpTransportResponse response, ResponseTimings timings, String calledMethodAndUri) throws IOException {
+        timings.setTimeToFirstByte(response.getTimeToFirstByte());
 
-        Response response = theRequest.request(testData.getMethod(), uri);
+        long bodyReadStart = System.nanoTime();
+        ResponseData responseData = convertToBeftaResponse(scenarioContext, response);
+        timings.recordBodyReadTime(System.nanoTime() - bodyReadStart);
+        responseData.setTimings(timings);
 
-        ResponseData responseData = convertRestAssuredResponseToBeftaResponse(scenarioContext, response);
         scenarioContext.getTestData().setActualResponse(responseData);
         scenarioContext.setTheResponse(responseData);
-        scenario.log("Called: " + queryableRequest.getMethod() + " " + queryableRequest.getURI());
-        scenario.log("Response:\n" + JsonUtils.getPrettyJsonFromObject(scenarioContext.getTheResponse()));
+        logToScenario("Called: " + calledMethodAndUri);
+        logToScenario("Response received in " + timings.getResponseTime() + " ms");
+        scenarioLogger.logPayload("Response:\n", scenarioContext.getTheResponse());
         scenarioContext.injectDataFromContextAfterApiCall();
+        return responseData;
+    }
+
+    private static RuntimeException failureToCall(String calledMethodAndUri, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        if (cause instanceof IOException)
+            return new CompletionException(cause);
+        return new FunctionalTestException("Failed to call " + calledMethodAndUri, cause);
+    }
+
+    /**
+     * Waits for the given call to complete, throwing what it failed with.
+     */
+    private static <T> T joinTheCall(CompletableFuture<T> call) throws IOException {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            throw e;
+        }
+    }
 
+    /**
+     * @return the transport to send the request of the given test data
+     *         through, or null if it is to be sent through RestAssured, as
+     *         multi-part requests always are
+     */
+    private HttpTransport transportFor(HttpTestData testData) {
+        HttpTransport transport = HttpTransportFactory.getHttpTransport(BeftaMain.getConfig().getHttpTransport());
+        return transport == null || testData.getRequest().isMultipart() ? null : transport;
     }
 
-    private ResponseData convertRestAssuredResponseToBeftaResponse(BackEndFunctionalTestScenarioContext scenarioContext,
-            Response response) throws IOException {
+    private HttpTransportRequest buildHttpTransportRequestWith(HttpTestData testData, RequestTemplate template)
+            throws IOException {
+        HttpTransportRequest request = new HttpTransportRequest();
+        request.setMethod(template.getMethod());
+
+        RequestData requestData = testData.getRequest();
+        String uri = template.expandUri(testData.getUri(), requestData.getPathVariables());
+        String lowerCaseUri = uri.trim().toLowerCase();
+        if (!lowerCaseUri.startsWith("http:") && !lowerCaseUri.startsWith("https:")) {
+            String baseUri = TestAutomationConfig.INSTANCE.getTestUrl();
+            if (baseUri.endsWith("/") && uri.startsWith("/")) {
+                uri = baseUri + uri.substring(1);
+            } else if (baseUri.endsWith("/") || uri.startsWith("/")) {
+                uri = baseUri + uri;
+            } else {
+                uri = baseUri + "/" + uri;
+            }
+        }
+        try {
+            URIBuilder uriBuilder = new URIBuilder(uri);
+            if (requestData.getQueryParams() != null) {
+                requestData.getQueryParams().forEach((queryParam, value) -> {
+                    if (value instanceof Collection<?>) {
+                        ((Collection<?>) value).forEach(
+                                eachValue -> uriBuilder.addParameter(queryParam, String.valueOf(eachValue)));
+                    } else {
+                        uriBuilder.addParameter(queryParam, String.valueOf(value));
+                    }
+                });
+            }
+            request.setUri(uriBuilder.build());
+        } catch (URISyntaxException e) {
+            throw new FunctionalTestException("URI '" + uri + "' in test data file not valid", e);
+        }
+
+        if (requestData.getHeaders() != null) {
+            requestData.getHeaders().forEach(
+                    (header, value) -> request.getHeaders().put(header, template.headerValue(header, value)));
+        }
+
+        if (requestData.getBody() != null) {
+            request.setBody(template.bodyBytes(requestData));
+        }
+        return request;
+    }
+
+    private ResponseData convertToBeftaResponse(BackEndFunctionalTestScenarioContext scenarioContext,
+            HttpTransportResponse response) throws IOException {
         Map<String, Object> responseHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        response.getHeaders().forEach(header -> responseHeaders.put(header.getName(), header.getValue()));
+        responseHeaders.putAll(response.getHeaders());
         ResponseData responseData = new ResponseData();
         responseData.setResponseCode(response.getStatusCode());
         String reasonPhrase = EnglishReasonPhraseCatalog.INSTANCE.getReason(response.getStatusCode(), null);
         responseData.setResponseMessage(reasonPhrase);
         responseData.setHeaders(responseHeaders);
 
-        String jsonForBody;
-        Map<String, Object> wrappedInMap = null;
+        Map<String, Object> mapForBody;
         if (shouldTreatBodyAsAFile(scenarioContext.getTestData().getExpectedResponse())) {
-            jsonForBody = getFileInMapJson(response);
+            mapForBody = getFileInBodyMap(response);
+        } else if (isResponseJson(response.getContentType())) {
+            mapForBody = readJsonBody(response);
         } else {
-            jsonForBody = response.getBody() == null ? null : response.getBody().asString();
-            if (jsonForBody != null && !jsonForBody.isEmpty()) {
-                wrappedInMap = wrapInMapIfNecessary(jsonForBody, response.getContentType());
-            }
+            mapForBody = wrapPlainTextInMap(response.getBodyAsString());
         }
-
-        Map<String, Object> mapForBody = getMapForBodyFrom(wrappedInMap, jsonForBody);
         responseData.setBody(mapForBody);
 
         return responseData;
     }
 
+    /**
+     * Parses the body straight from the response stream, wrapping a top-level
+     * array in a map as "arrayInMap". The raw body is only kept, to be logged
+     * if it is not valid json, when debug logging is enabled.
+     */
     @SuppressWarnings("unchecked")
-    private Map<String, Object> getMapForBodyFrom(Map<String, Object> wrappedInMap, String jsonForBody) {
-        if (wrappedInMap != null)
-            return wrappedInMap;
-        if (jsonForBody == null || jsonForBody.isEmpty())
+    private Map<String, Object> readJsonBody(HttpTransportResponse response) throws IOException {
+        InputStream bodyStream = response.getBodyAsInputStream();
+        if (bodyStream == null)
             return null;
-        try {
-            return JsonUtils.readObjectFromJsonText(jsonForBody, Map.class);
-        } catch (Exception e) {
-            scenario.log("Can't convert the body to JSON: \n" + jsonForBody);
+        byte[] rawBody = null;
+        if (logger.isDebugEnabled()) {
+            rawBody = IOUtils.toByteArray(bodyStream);
+            bodyStream = new ByteArrayInputStream(rawBody);
+        }
+        try (JsonParser parser = mapper.getFactory().createParser(bodyStream)) {
+            JsonToken firstToken = parser.nextToken();
+            if (firstToken == null)
+                return null;
+            if (firstToken == JsonToken.START_ARRAY) {
+                Map<String, Object> wrapperMap = new HashMap<>();
+                wrapperMap.put("arrayInMap", mapper.readValue(parser, List.class));
+                return wrapperMap;
+            }
+            return mapper.readValue(parser, Map.class);
+        } catch (JsonProcessingException e) {
+            if (rawBody == null) {
+                logToScenario("Can't convert the body to JSON: \n" + e.getOriginalMessage());
+            } else {
+                scenarioLogger.logPayload("Can't convert the body to JSON: \n",
+                        new String(rawBody, StandardCharsets.UTF_8));
+            }
             throw new FunctionalTestException("Can't convert the body to JSON.", e);
         }
     }
 
+    private Map<String, Object> wrapPlainTextInMap(String body) {
+        if (body == null || body.isEmpty())
+            return null;
+        Map<String, Object> wrapperMap = new HashedMap<>();
+        wrapperMap.put("__plainTextValue__", body.replaceAll("\n", ""));
+        return wrapperMap;
+    }
+
     private boolean shouldTreatBodyAsAFile(ResponseData expectedResponse) {
         return expectedResponse.getBody() != null && expectedResponse.getBody().containsKey("__fileInBody__");
     }
 
-    private String getFileInMapJson(Response response) throws IOException {
-        InputStream inputStream = response.getBody().asInputStream();
+    /**
+     * Reads the body once, without keeping it in memory or on disk, to find its
+     * size and SHA-256 hash, which expected responses can assert on.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getFileInBodyMap(HttpTransportResponse response) throws IOException {
+        InputStream inputStream = response.getBodyAsInputStream();
         if (inputStream == null) {
             return null;
         }
-        File tempFile = new File("__download__" + System.currentTimeMillis());
-        try {
-            tempFile.createNewFile();
-            FileOutputStream outputStream = new FileOutputStream(tempFile);
-            FileUtil.copyStream(inputStream, outputStream);
-            outputStream.close();
-            FileInBody fib = new FileInBody("file");
-            fib.setSize("" + tempFile.length());
-            fib.setContentHash("hash");
-            String json = JsonUtils.getJsonFromObject(fib);
-            json = "{\"__fileInBody__\":" + json + "}";
-            return json;
-
-        } finally {
-            tempFile.delete();
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> wrapInMapIfNecessary(String apiResponse, String contentType) {
-        Map<String, Object> wrapperMap = null;
-        if (isResponseJson(apiResponse, contentType)) {
-            if (isArrayInJson(apiResponse, contentType)) {
-                String wrapperString = "{\"arrayInMap\":" + apiResponse + "}";
-                try {
-                    wrapperMap = JsonUtils.readObjectFromJsonText(wrapperString, Map.class);
-                } catch (Exception e) {
-                    scenario.log("Can't convert the body to JSON: \n" + wrapperString);
-                    throw new FunctionalTestException("Can't convert the body to JSON.", e);
-                }
+        long size = 0;
+        String contentHash;
+        try (HashingInputStream hashingStream = new HashingInputStream(Hashing.sha256(), inputStream)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = hashingStream.read(buffer)) != -1) {
+                size += read;
             }
-        } else {
-            wrapperMap = new HashedMap<>();
-            wrapperMap.put("__plainTextValue__", apiResponse.replaceAll("\n", ""));
+            contentHash = hashingStream.hash().toString();
         }
-        return wrapperMap;
+        FileInBody fib = new FileInBody("file");
+        fib.setSize("" + size);
+        fib.setContentHash(contentHash);
+        Map<String, Object> fileInBodyMap = new HashMap<>();
+        fileInBodyMap.put("__fileInBody__", mapper.convertValue(fib, Map.class));
+        return fileInBodyMap;
     }
 
-    private boolean isResponseJson(String apiResponse, String contentType) {
-
+    private boolean isResponseJson(String contentType) {
         return contentType != null && contentType.toLowerCase().contains("json");
     }
 
-    private boolean isArrayInJson(String apiResponse, String contentType) {
-
-        return isResponseJson(apiResponse, contentType) && apiResponse != null && apiResponse.startsWith("[")
-                && apiResponse.endsWith("]");
-    }
-
     @Override
     @Then("a positive response is received")
     public void verifyThatAPositiveResponseWasReceived() {
+        scenarioLogger.flush();
         int responseCode = scenarioContext.getTheResponse().getResponseCode();
-        scenario.log("Response code: " + responseCode);
+        logToScenario("Response code: " + responseCode);
         boolean responseCodePositive = responseCode / 100 == 2;
         Assert.assertTrue("Response code '" + responseCode + "' is not a success code.", responseCodePositive);
     }
@@ -477,8 +676,9 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
     @Override
     @Then("a negative response is received")
     public void verifyThatANegativeResponseWasReceived() {
+        scenarioLogger.flush();
         int responseCode = scenarioContext.getTheResponse().getResponseCode();
-        scenario.log("Response code: " + responseCode);
+        logToScenario("Response code: " + responseCode);
         boolean responseCodePositive = responseCode / 100 == 2;
         Assert.assertFalse("Response code '" + responseCode + "' is unexpectedly a success code.",
                 responseCodePositive);
@@ -488,16 +688,18 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
     @Then("the response has all the details as expected")
     @Then("the response has all other details as expected")
     public void verifyThatTheResponseHasAllTheDetailsAsExpected() throws IOException {
+        scenarioLogger.flush();
         verifyThatTheResponseHasAllTheDetailsAsExpected(this.scenarioContext);
     }
 
     private void verifyThatTheResponseHasAllTheDetailsAsExpected(BackEndFunctionalTestScenarioContext scenarioContext)
             throws IOException {
+        long verificationStart = System.nanoTime();
         ResponseData expectedResponse = scenarioContext.getTestData().getExpectedResponse();
         ResponseData actualResponse = scenarioContext.getTheResponse();
 
         List<String> issuesInResponseHeaders = null, issuesInResponseBody = null;
-        String issueWithResponseCode = null;
+        String issueWithResponseCode = null, issueWithResponseTime = null;
 
         if (actualResponse.getResponseCode() != expectedResponse.getResponseCode()) {
             issueWithResponseCode = "Response code mismatch, expected: " + expectedResponse.getResponseCode()
@@ -516,11 +718,22 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
             issuesInResponseBody = bodyVerification.getAllIssues();
         }
 
-        processAnyIssuesInResponse(issueWithResponseCode, issuesInResponseHeaders, issuesInResponseBody);
+        Long maxResponseTime = scenarioContext.getTestData().getMaxResponseTimeMillis();
+        ResponseTimings timings = actualResponse.getTimings();
+        if (maxResponseTime != null && timings != null && timings.getResponseTime() > maxResponseTime) {
+            issueWithResponseTime = "Response time over budget, expected at most: " + maxResponseTime
+                    + " ms, actual: " + timings.getResponseTime() + " ms";
+        }
+        if (timings != null) {
+            timings.setVerificationTime(millisSince(verificationStart));
+        }
+
+        processAnyIssuesInResponse(issueWithResponseCode, issueWithResponseTime, issuesInResponseHeaders,
+                issuesInResponseBody);
     }
 
-    private void processAnyIssuesInResponse(String issueWithResponseCode, List<String> issuesInResponseHeaders,
-            List<String> issuesInResponseBody) {
+    private void processAnyIssuesInResponse(String issueWithResponseCode, String issueWithResponseTime,
+            List<String> issuesInResponseHeaders, List<String> issuesInResponseBody) {
         StringBuffer allVerificationIssues = new StringBuffer(
                 "Could not verify the actual response against expected one. Below are the issues.").append('\n');
 
@@ -528,6 +741,10 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
             allVerificationIssues.append(issueWithResponseCode).append('\n');
         }
 
+        if (issueWithResponseTime != null) {
+            allVerificationIssues.append(issueWithResponseTime).append('\n');
+        }
+
         ResponseHeaderCheckPolicy headerPolicy = BeftaMain.getConfig().getResponseHeaderCheckPolicy();
         if (issuesInResponseHeaders != null) {
             if (headerPolicy.equals(ResponseHeaderCheckPolicy.JUST_WARN)) {
@@ -545,12 +762,31 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
             issuesInResponseBody.forEach(issue -> allVerificationIssues.append(issue).append('\n'));
         }
 
-        boolean anyVerificationIssue = issueWithResponseCode != null
+        boolean anyVerificationIssue = issueWithResponseCode != null || issueWithResponseTime != null
                 || (issuesInResponseHeaders != null && headerPolicy.equals(ResponseHeaderCheckPolicy.FAIL_TEST))
                 || issuesInResponseBody != null;
         Assert.assertFalse(allVerificationIssues.toString(), anyVerificationIssue);
     }
 
+    @Override
+    @Then("the response is received within [{}] milliseconds")
+    public void verifyThatTheResponseWasReceivedWithinAGivenNumberOfMilliseconds(String maxResponseTime) {
+        scenarioLogger.flush();
+        ResponseTimings timings = scenarioContext.getTheResponse().getTimings();
+        if (timings == null) {
+            throw new FunctionalTestException("No response time recorded for the call.");
+        }
+        long limit;
+        try {
+            limit = Long.parseLong(maxResponseTime.trim());
+        } catch (NumberFormatException ex) {
+            throw new FunctionalTestException("Response time provided is not a valid number: " + maxResponseTime, ex);
+        }
+        logToScenario("Response time: " + timings.getResponseTime() + " ms");
+        Assert.assertTrue("Response time '" + timings.getResponseTime() + " ms' is over the limit of '" + limit
+                + " ms'.", timings.getResponseTime() <= limit);
+    }
+
     @Override
     @Then("the response [{}]")
     public void verifyTheResponseInTheContextWithAParticularSpecification(String responseSpecification) {
@@ -579,13 +815,131 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
         } else {
             parentContext.addChildContext(contextId, subcontext);
         }
+        performTheApiCall(subcontext, testDataSpec, true);
+    }
+
+    @Override
+    @Then("a call [{}] will eventually get the expected response as in [{}] within [{}] seconds")
+    @Then("another call [{}] will eventually get the expected response as in [{}] within [{}] seconds")
+    public void performAndVerifyTheExpectedResponseForAnApiCallEventually(String testDataSpec, String testDataId,
+            String timeout) throws IOException, InterruptedException {
+        scenarioLogger.flush();
+        long timeoutMillis;
+        try {
+            timeoutMillis = (long) (Double.parseDouble(timeout) * 1000);
+        } catch (NumberFormatException ex) {
+            throw new FunctionalTestException("Timeout provided is not a valid number: " + timeout, ex);
+        }
+        performAndVerifyTheExpectedResponseForAnApiCallEventually(this.scenarioContext, testDataSpec, testDataId,
+                timeoutMillis);
+    }
+
+    /**
+     * Repeats the call until its response is verified or the timeout expires,
+     * waiting between attempts for a delay doubled on each attempt, up to a
+     * maximum, and randomly cut by up to a half so that concurrent scenarios do
+     * not retry in step. Prerequisites are run on the first attempt only: later
+     * attempts take over the prerequisite contexts of the previous one. Failures
+     * other than verification failures are not retried.
+     */
+    private void performAndVerifyTheExpectedResponseForAnApiCallEventually(
+            BackEndFunctionalTestScenarioContext parentContext, String testDataSpec, String testDataId,
+            long timeoutMillis) throws IOException, InterruptedException {
+        long startNanos = System.nanoTime();
+        long retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+        Map<String, BackEndFunctionalTestScenarioContext> prerequisiteContexts = new LinkedHashMap<>();
+        for (int attempt = 1;; attempt++) {
+            BackEndFunctionalTestScenarioContext subcontext = BeftaScenarioContextFactory.createBeftaScenarioContext();
+            subcontext.initializeTestDataFor(testDataId);
+            parentContext.addChildContext(subcontext);
+            prerequisiteContexts.forEach(subcontext::addChildContext);
+            try {
+                performTheApiCall(subcontext, testDataSpec, true);
+                logToScenario("Expected response as in [" + testDataId + "] received on attempt " + attempt + " after "
+                        + millisSince(startNanos) + " ms");
+                return;
+            } catch (AssertionError e) {
+                long remainingMillis = timeoutMillis - millisSince(startNanos);
+                if (remainingMillis <= 0) {
+                    throw new AssertionError("Expected response as in [" + testDataId + "] not received in "
+                            + attempt + " attempts within " + timeoutMillis + " ms. Last attempt: "
+                            + e.getMessage(), e);
+                }
+                prerequisiteContexts = new LinkedHashMap<>(subcontext.getChildContexts());
+                long delayMillis = Math.min(remainingMillis,
+                        retryDelayMillis / 2 + ThreadLocalRandom.current().nextLong(retryDelayMillis / 2 + 1));
+                logToScenario("Attempt " + attempt + " did not get the expected response as in [" + testDataId
+                        + "], retrying in " + delayMillis + " ms");
+                TimeUnit.MILLISECONDS.sleep(delayMillis);
+                retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Makes the call in the given test data as
+     * {@link #performAndVerifyTheExpectedResponseForAnApiCall(String, String)}
+     * does, in a context of its own, without a specification to confirm, and
+     * verifying the response only if asked to. Used to replay calls in load
+     * tests.
+     *
+     * @return the response received
+     */
+    public ResponseData performTheApiCall(String testDataId, boolean verifyResponse) throws IOException {
+        BackEndFunctionalTestScenarioContext parentContext = BeftaScenarioContextFactory.createBeftaScenarioContext();
+        BackEndFunctionalTestScenarioContext subcontext = BeftaScenarioContextFactory.createBeftaScenarioContext();
+        subcontext.initializeTestDataFor(testDataId);
+        parentContext.addChildContext(subcontext);
+        performTheApiCall(subcontext, null, verifyResponse);
+        return subcontext.getTheResponse();
+    }
+
+    /**
+     * Makes the call in the given test data as
+     * {@link #performTheApiCall(String, boolean)} does, without waiting for the
+     * response if it is sent through an HTTP transport, so that a few threads
+     * can keep many calls in flight. The prerequisites of the call are run and
+     * its request is built before returning, and the response is read and
+     * verified on the given executor, to keep that work off the threads of the
+     * transport.
+     *
+     * @return the response received, once received and verified
+     */
+    public CompletableFuture<ResponseData> performTheApiCallAsynchronously(String testDataId,
+            boolean verifyResponse, Executor responseExecutor) throws IOException {
+        BackEndFunctionalTestScenarioContext parentContext = BeftaScenarioContextFactory.createBeftaScenarioContext();
+        BackEndFunctionalTestScenarioContext subcontext = BeftaScenarioContextFactory.createBeftaScenarioContext();
+        subcontext.initializeTestDataFor(testDataId);
+        parentContext.addChildContext(subcontext);
+        verifyAllUsersInTheContext(subcontext);
+        runPrerequisitesSpecifiedInTheContext(subcontext);
+        prepareARequestWithAppropriateValues(subcontext);
+        return submitTheRequestAsynchronously(subcontext, subcontext.getTestData().getOperationName(),
+                subcontext.getTestData().getProductName(), responseExecutor).thenApply(responseData -> {
+                    if (verifyResponse) {
+                        try {
+                            verifyThatTheResponseHasAllTheDetailsAsExpected(subcontext);
+                        } catch (IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }
+                    return responseData;
+                });
+    }
+
+    private void performTheApiCall(BackEndFunctionalTestScenarioContext subcontext, String testDataSpec,
+            boolean verifyResponse) throws IOException {
         verifyAllUsersInTheContext(subcontext);
         runPrerequisitesSpecifiedInTheContext(subcontext);
         prepareARequestWithAppropriateValues(subcontext);
-        verifyTheRequestInTheContextWithAParticularSpecification(subcontext, testDataSpec);
+        if (testDataSpec != null) {
+            verifyTheRequestInTheContextWithAParticularSpecification(subcontext, testDataSpec);
+        }
         submitTheRequestToCallAnOperationOfAProduct(subcontext, subcontext.getTestData().getOperationName(),
                 subcontext.getTestData().getProductName());
-        verifyThatTheResponseHasAllTheDetailsAsExpected(subcontext);
+        if (verifyResponse) {
+            verifyThatTheResponseHasAllTheDetailsAsExpected(subcontext);
+        }
     }
 
     private void verifyAllUsersInTheContext(BackEndFunctionalTestScenarioContext scenarioContext) {
@@ -597,9 +951,9 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
             final String userKey, final UserData userBeingSpecified) {
         String prefix = "users[" + userKey + "]";
         resolveUserData(scenarioContext, prefix, userBeingSpecified);
-        scenario.log("Attempting to authenticate [" + userBeingSpecified.getUsername() + "]...");
+        logToScenario("Attempting to authenticate [" + userBeingSpecified.getUsername() + "]...");
         authenticateUser(scenarioContext, prefix, userBeingSpecified);
-        scenario.log("Authenticated user with Id [" + userBeingSpecified.getId() + "].");
+        logToScenario("Authenticated user with Id [" + userBeingSpecified.getId() + "].");
     }
 
     private void resolveUserData(final BackEndFunctionalTestScenarioContext scenarioContext, String prefix,
@@ -621,7 +975,7 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
             UserData user) {
         String logPrefix = scenarioContext.getTestData().get_guid_() + ": " + prefix + " [" + user.getUsername() + "] ";
         String preferredTokenProviderClientId = scenarioContext.getTestData().getUserTokenClientId();
-        scenario.log("Authentication attempt from: " + preferredTokenProviderClientId + ".");
+        logToScenario("Authentication attempt from: " + preferredTokenProviderClientId + ".");
         try {
             BeftaMain.getAdapter().authenticate(user, preferredTokenProviderClientId);
             logger.info(logPrefix + "authenticated.");
@@ -642,4 +996,8 @@ public class DefaultBackEndFunctionalTestScenarioPlayer implements BackEndFuncti
             throw new FunctionalTestException("Wait time provided is not a valid number: " + waitTime, ex);
         }
     }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
 }
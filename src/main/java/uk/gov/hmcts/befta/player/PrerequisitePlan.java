@@ -0,0 +1,201 @@
+package uk.gov.hmcts.befta.player;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import uk.gov.hmcts.befta.data.HttpTestData;
+import uk.gov.hmcts.befta.exception.FunctionalTestException;
+import uk.gov.hmcts.befta.util.JsonUtils;
+
+/**
+ * The prerequisites of a test data object, in the order they are listed, and
+ * the earlier prerequisites each of them depends on. A prerequisite depends on
+ * an earlier one if:
+ * <ul>
+ * <li>its test data, or the test data of any prerequisite nested in it, refers
+ * to the context of the earlier one through a {@code [childContexts]} or
+ * {@code [siblingContexts]} formula,</li>
+ * <li>both have the same context id, or</li>
+ * <li>both are listed in the same map of context ids to test data ids, which is
+ * the way to order prerequisites explicitly.</li>
+ * </ul>
+ * Prerequisites that do not depend on each other can be run concurrently.
+ */
+class PrerequisitePlan {
+
+    private static final Pattern CONTEXT_REFERENCE = Pattern
+            .compile("\\[(?:childContexts|siblingContexts)\\]\\[([^\\]]+)\\]");
+
+    private static final ThreadFactory PREREQUISITE_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("befta-prerequisite-%d").setDaemon(true).build();
+
+    interface PrerequisiteRunner {
+        void run(String contextId, String testDataId) throws IOException;
+    }
+
+    static class Prerequisite {
+        private final String contextId;
+        private final String testDataId;
+        private final Set<Integer> dependencies = new LinkedHashSet<>();
+
+        Prerequisite(String contextId, String testDataId) {
+            this.contextId = contextId;
+            this.testDataId = testDataId;
+        }
+
+        String getContextId() {
+            return contextId;
+        }
+
+        String getTestDataId() {
+            return testDataId;
+        }
+
+        Set<Integer> getDependencies() {
+            return dependencies;
+        }
+    }
+
+    private final List<Prerequisite> prerequisites = new ArrayList<>();
+
+    private PrerequisitePlan() {
+    }
+
+    /**
+     * @param prerequisites test data ids, or maps of context ids to test data ids
+     */
+    static PrerequisitePlan of(List<Object> prerequisites) {
+        PrerequisitePlan plan = new PrerequisitePlan();
+        for (Object prerequisite : prerequisites) {
+            if (prerequisite instanceof String) {
+                String prerequisiteAsString = (String) prerequisite;
+                plan.prerequisites.add(new Prerequisite(prerequisiteAsString, prerequisiteAsString));
+            } else if (prerequisite instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, String> prerequisiteAsMap = (Map<String, String>) prerequisite;
+                int previous = -1;
+                for (Map.Entry<String, String> prerequisiteAsEntry : prerequisiteAsMap.entrySet()) {
+                    Prerequisite entry = new Prerequisite(prerequisiteAsEntry.getKey(), prerequisiteAsEntry.getValue());
+                    if (previous >= 0)
+                        entry.dependencies.add(previous);
+                    previous = plan.prerequisites.size();
+                    plan.prerequisites.add(entry);
+                }
+            } else {
+                throw new FunctionalTestException("Unrecognised prerequisite data type");
+            }
+        }
+        return plan;
+    }
+
+    List<Prerequisite> getPrerequisites() {
+        return Collections.unmodifiableList(prerequisites);
+    }
+
+    /**
+     * Adds the dependencies found through context ids and context references in
+     * the test data of the prerequisites.
+     */
+    void analyseDependencies(Function<String, HttpTestData> testDataLookup) throws IOException {
+        for (int index = 0; index < prerequisites.size(); index++) {
+            Prerequisite prerequisite = prerequisites.get(index);
+            Set<String> referencedContextIds = new HashSet<>();
+            collectContextReferences(prerequisite.testDataId, testDataLookup, referencedContextIds, new HashSet<>());
+            for (int earlier = 0; earlier < index; earlier++) {
+                String earlierContextId = prerequisites.get(earlier).contextId;
+                if (earlierContextId.equals(prerequisite.contextId)
+                        || referencedContextIds.contains(earlierContextId))
+                    prerequisite.dependencies.add(earlier);
+            }
+        }
+    }
+
+    private void collectContextReferences(String testDataId, Function<String, HttpTestData> testDataLookup,
+            Set<String> referencedContextIds, Set<String> visitedTestDataIds) throws IOException {
+        if (!visitedTestDataIds.add(testDataId))
+            return;
+        HttpTestData testData = testDataLookup.apply(testDataId);
+        if (testData == null)
+            return;
+        // the parts of the test data dynamic values can be injected into
+        Matcher matcher = CONTEXT_REFERENCE.matcher(JsonUtils.getJsonFromObject(Arrays.asList(testData.getUri(),
+                testData.getRequest(), testData.getExpectedResponse(), testData.getUsers())));
+        while (matcher.find())
+            referencedContextIds.add(matcher.group(1));
+        if (testData.getPrerequisites() != null) {
+            for (Prerequisite nested : of(testData.getPrerequisites()).prerequisites)
+                collectContextReferences(nested.testDataId, testDataLookup, referencedContextIds, visitedTestDataIds);
+        }
+    }
+
+    /**
+     * Runs each prerequisite as soon as the ones it depends on have completed, on
+     * up to the given number of threads, and waits for all of them. A
+     * prerequisite is not run if any of the ones it depends on fails.
+     *
+     * @throws IOException the failure of the first failed prerequisite in list
+     *         order, if it is an IOException; other failures are rethrown as they
+     *         are if unchecked, and wrapped otherwise
+     */
+    void runConcurrently(PrerequisiteRunner runner, int threads) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, prerequisites.size()),
+                PREREQUISITE_THREAD_FACTORY);
+        try {
+            List<CompletableFuture<Void>> runs = new ArrayList<>();
+            for (Prerequisite prerequisite : prerequisites) {
+                CompletableFuture<?>[] dependencies = prerequisite.dependencies.stream().map(runs::get)
+                        .toArray(CompletableFuture[]::new);
+                runs.add(CompletableFuture.allOf(dependencies)
+                        .thenRunAsync(() -> run(runner, prerequisite), executor));
+            }
+            CompletableFuture.allOf(runs.toArray(new CompletableFuture<?>[0])).handle((result, failure) -> null).join();
+            for (CompletableFuture<Void> run : runs) {
+                if (run.isCompletedExceptionally())
+                    rethrowFailureOf(run);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void run(PrerequisiteRunner runner, Prerequisite prerequisite) {
+        try {
+            runner.run(prerequisite.contextId, prerequisite.testDataId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void rethrowFailureOf(CompletableFuture<Void> run) throws IOException {
+        try {
+            run.join();
+        } catch (CompletionException e) {
+            Throwable failure = e.getCause();
+            if (failure instanceof UncheckedIOException)
+                throw ((UncheckedIOException) failure).getCause();
+            if (failure instanceof RuntimeException)
+                throw (RuntimeException) failure;
+            if (failure instanceof Error)
+                throw (Error) failure;
+            throw new FunctionalTestException("Prerequisite failed", failure);
+        }
+    }
+}
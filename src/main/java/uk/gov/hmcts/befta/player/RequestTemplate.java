@@ -0,0 +1,228 @@
+package uk.gov.hmcts.befta.player;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.restassured.http.Method;
+import uk.gov.hmcts.befta.data.HttpTestData;
+import uk.gov.hmcts.befta.data.RequestData;
+import uk.gov.hmcts.befta.exception.FunctionalTestException;
+
+/**
+ * The parts of the request of a test data that are the same for every call
+ * made with it, worked out once per test data id: the validated method, the
+ * uri split into its literal parts and path variable slots, the headers with
+ * constant values, and the body serialised to bytes if it has no dynamic
+ * values. Dynamic values are injected into a copy of the test data before each
+ * call, so a part is only reused while the copy still holds the very value the
+ * template was built from. Everything else is filled in per call.
+ */
+class RequestTemplate {
+
+    private static final Map<String, RequestTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String[] DYNAMIC_VALUE_MARKERS = { "${", "{{", "[[" };
+
+    private final HttpTestData source;
+
+    private final String methodName;
+
+    private final boolean methodRecognised;
+
+    private final String uri;
+
+    private final List<String> uriParts;
+
+    private final Map<String, Object> constantHeaderSources = new HashMap<>();
+
+    private final Map<String, String> constantHeaders = new HashMap<>();
+
+    private final Map<String, Object> body;
+
+    private final byte[] bodyBytes;
+
+    RequestTemplate(HttpTestData source) {
+        this.source = source;
+        methodName = source.getMethod() == null ? null : source.getMethod().toUpperCase();
+        methodRecognised = isRecognised(methodName);
+        uri = source.getUri();
+        uriParts = uri == null ? Collections.emptyList() : splitIntoParts(uri);
+
+        RequestData requestData = source.getRequest();
+        if (requestData != null && requestData.getHeaders() != null) {
+            requestData.getHeaders().forEach((header, value) -> {
+                if (!hasDynamicValues(value)) {
+                    constantHeaderSources.put(header, value);
+                    constantHeaders.put(header, String.valueOf(value));
+                }
+            });
+        }
+        body = requestData == null ? null : requestData.getBody();
+        bodyBytes = body == null || requestData.isMultipart() || hasDynamicValues(body) ? null : serialiseIfCan(body);
+    }
+
+    /**
+     * @return the template built from the given test data, which is built on
+     *         the first call for its id and reused while the test data source
+     *         returns the same test data for the id
+     */
+    static RequestTemplate of(HttpTestData source) {
+        if (source.get_guid_() == null)
+            return new RequestTemplate(source);
+        RequestTemplate template = TEMPLATES.computeIfAbsent(source.get_guid_(), id -> new RequestTemplate(source));
+        if (template.source != source) {
+            template = new RequestTemplate(source);
+            TEMPLATES.put(source.get_guid_(), template);
+        }
+        return template;
+    }
+
+    /**
+     * @return the method of the test data in upper case
+     * @throws FunctionalTestException if the method is not an HTTP method
+     */
+    String getMethod() {
+        if (!methodRecognised) {
+            throw new FunctionalTestException("Method '" + source.getMethod() + "' in test data file not recognised");
+        }
+        return methodName;
+    }
+
+    /**
+     * @return the given uri with the path variables of the request substituted
+     *         in it, encoded
+     */
+    String expandUri(String uri, Map<String, Object> pathVariables) throws UnsupportedEncodingException {
+        if (pathVariables == null || pathVariables.isEmpty())
+            return uri;
+        List<String> parts = uri.equals(this.uri) ? uriParts : splitIntoParts(uri);
+        StringBuilder expanded = new StringBuilder(uri.length());
+        for (String part : parts) {
+            if (isPathVariableSlot(part) && pathVariables.containsKey(slotName(part))) {
+                expanded.append(URLEncoder.encode(String.valueOf(pathVariables.get(slotName(part))), "UTF-8")
+                        .replace("+", "%20"));
+            } else {
+                expanded.append(part);
+            }
+        }
+        return expanded.toString();
+    }
+
+    /**
+     * @return the given header value as text
+     */
+    String headerValue(String header, Object value) {
+        String constant = constantHeaders.get(header);
+        return constant != null && constantHeaderSources.get(header) == value ? constant : String.valueOf(value);
+    }
+
+    /**
+     * @return the body of the given request as json bytes, serialised only if
+     *         it is not the body the template was built from
+     */
+    byte[] bodyBytes(RequestData requestData) throws JsonProcessingException {
+        if (bodyBytes != null && requestData.getBody() == body)
+            return bodyBytes;
+        return serialise(requestData.getBody());
+    }
+
+    /**
+     * @return what is sent as the body of a request with the given body
+     */
+    static Object bodyContentOf(Map<String, Object> body) {
+        return body.containsKey("arrayInMap") ? body.get("arrayInMap") : body;
+    }
+
+    private static byte[] serialise(Map<String, Object> body) throws JsonProcessingException {
+        return MAPPER.writeValueAsBytes(bodyContentOf(body));
+    }
+
+    /**
+     * @return null if the body cannot be serialised, to fail on the call instead
+     */
+    private static byte[] serialiseIfCan(Map<String, Object> body) {
+        try {
+            return serialise(body);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static boolean isRecognised(String methodName) {
+        if (methodName == null)
+            return false;
+        try {
+            Method.valueOf(methodName);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Splits the uri into literal parts and {name} slots, in order.
+     */
+    private static List<String> splitIntoParts(String uri) {
+        List<String> parts = new ArrayList<>();
+        int pos = 0;
+        while (pos < uri.length()) {
+            int slotEnd = uri.indexOf('}', pos);
+            if (slotEnd < 0) {
+                parts.add(uri.substring(pos));
+                break;
+            }
+            int slotStart = uri.lastIndexOf('{', slotEnd);
+            if (slotStart < pos) {
+                parts.add(uri.substring(pos, slotEnd + 1));
+                pos = slotEnd + 1;
+                continue;
+            }
+            if (slotStart > pos)
+                parts.add(uri.substring(pos, slotStart));
+            parts.add(uri.substring(slotStart, slotEnd + 1));
+            pos = slotEnd + 1;
+        }
+        return parts;
+    }
+
+    private static boolean isPathVariableSlot(String part) {
+        return part.length() > 1 && part.charAt(0) == '{' && part.charAt(part.length() - 1) == '}';
+    }
+
+    private static String slotName(String slot) {
+        return slot.substring(1, slot.length() - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean hasDynamicValues(Object value) {
+        if (value instanceof String) {
+            for (String marker : DYNAMIC_VALUE_MARKERS) {
+                if (((String) value).contains(marker))
+                    return true;
+            }
+            return false;
+        } else if (value instanceof Map<?, ?>) {
+            return ((Map<String, Object>) value).values().stream().anyMatch(RequestTemplate::hasDynamicValues);
+        } else if (value instanceof Collection<?>) {
+            return ((Collection<Object>) value).stream().anyMatch(RequestTemplate::hasDynamicValues);
+        } else if (value instanceof Object[]) {
+            for (Object element : (Object[]) value) {
+                if (hasDynamicValues(element))
+                    return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,112 @@
+package uk.gov.hmcts.befta.player;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.cucumber.java.Scenario;
+import uk.gov.hmcts.befta.TestAutomationConfig.ScenarioLogLevel;
+import uk.gov.hmcts.befta.util.JsonUtils;
+
+/**
+ * Writes to the log of a scenario as much as the configured
+ * {@link ScenarioLogLevel} asks for. Payloads are rendered as pretty json off
+ * the calling thread, cut to the configured number of characters, and written
+ * to the log, in order with the other messages, when the logger is flushed.
+ * With {@link ScenarioLogLevel#ON_FAILURE}, payloads are only rendered if the
+ * scenario fails.
+ */
+class ScenarioLogger {
+
+    private static final ExecutorService RENDERER = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+            new ThreadFactoryBuilder().setNameFormat("befta-scenario-log-%d").setDaemon(true).build());
+
+    private final Scenario scenario;
+    private final ScenarioLogLevel level;
+    private final int payloadLimit;
+
+    private final List<CompletableFuture<String>> pendingMessages = new ArrayList<>();
+    private final List<Payload> retainedPayloads = new ArrayList<>();
+
+    private static class Payload {
+        private final String title;
+        private final Object content;
+
+        private Payload(String title, Object content) {
+            this.title = title;
+            this.content = content;
+        }
+    }
+
+    /**
+     * @param payloadLimit the maximum number of characters logged of a payload,
+     *        0 for no limit
+     */
+    ScenarioLogger(Scenario scenario, ScenarioLogLevel level, int payloadLimit) {
+        this.scenario = scenario;
+        this.level = level;
+        this.payloadLimit = payloadLimit;
+    }
+
+    synchronized void log(String message) {
+        if (level == ScenarioLogLevel.OFF)
+            return;
+        if (pendingMessages.isEmpty()) {
+            scenario.log(message);
+        } else {
+            pendingMessages.add(CompletableFuture.completedFuture(message));
+        }
+    }
+
+    /**
+     * @param payload an object to log as json, or text to log as it is
+     */
+    synchronized void logPayload(String title, Object payload) {
+        if (level == ScenarioLogLevel.FULL) {
+            pendingMessages.add(CompletableFuture.supplyAsync(() -> render(title, payload), RENDERER));
+        } else if (level == ScenarioLogLevel.ON_FAILURE) {
+            retainedPayloads.add(new Payload(title, payload));
+        }
+    }
+
+    /**
+     * Writes the messages logged so far, waiting for their payloads to be
+     * rendered.
+     */
+    synchronized void flush() {
+        for (CompletableFuture<String> message : pendingMessages) {
+            scenario.log(message.join());
+        }
+        pendingMessages.clear();
+    }
+
+    /**
+     * Writes the payloads retained for the case of a failure, if any.
+     */
+    synchronized void logRetainedPayloads() {
+        flush();
+        for (Payload payload : retainedPayloads) {
+            scenario.log(render(payload.title, payload.content));
+        }
+        retainedPayloads.clear();
+    }
+
+    private String render(String title, Object payload) {
+        String text;
+        try {
+            text = payload instanceof String ? (String) payload : JsonUtils.getPrettyJsonFromObject(payload);
+        } catch (Exception e) {
+            text = "[could not be rendered: " + e.getMessage() + "]";
+        }
+        if (payloadLimit > 0 && text != null && text.length() > payloadLimit) {
+            text = text.substring(0, payloadLimit) + "\n... [truncated " + (text.length() - payloadLimit)
+                    + " more characters]";
+        }
+        return title + text;
+    }
+}
@@ -2,12 +2,18 @@ package uk.gov.hmcts.befta.util;
 
 import org.junit.AssumptionViolatedException;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import io.cucumber.java.Scenario;
@@ -20,6 +26,14 @@ import uk.gov.hmcts.befta.featuretoggle.FeatureToggleInfo;
 @Slf4j
 public class BeftaUtils {
 
+    private static final AtomicLong temporaryFileSequence = new AtomicLong();
+
+    private static final long CLASS_PATH_RESOURCE_CACHE_BYTES = 128L * 1024 * 1024;
+
+    private static final Cache<String, byte[]> classPathResourceCache = CacheBuilder.newBuilder()
+            .maximumWeight(CLASS_PATH_RESOURCE_CACHE_BYTES).weigher((String path, byte[] bytes) -> bytes.length)
+            .build();
+
     public static File getSingleFileFromResource(String[] filelocation) {
         if(filelocation!=null&&filelocation.length==1) {
             return getFileFromResource(filelocation[0]);
@@ -37,6 +51,30 @@ public class BeftaUtils {
         return createTempFile(resourcePath,"");
     }
 
+    /**
+     * Reads the given class path resource into memory once, and shares its
+     * content between all the callers, as long as it fits in the cache. The
+     * content must not be modified.
+     */
+    public static byte[] getClassPathResourceAsBytes(String resourcePath) {
+        try {
+            return classPathResourceCache.get(resourcePath, () -> {
+                URL resource = BeftaUtils.class.getClassLoader().getResource(resourcePath);
+                if (resource == null) {
+                    throw new FunctionalTestException("Failed to load from filePath: " + resourcePath);
+                }
+                try (InputStream stream = resource.openStream()) {
+                    return IOUtils.toByteArray(stream);
+                }
+            });
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof FunctionalTestException) {
+                throw (FunctionalTestException) e.getCause();
+            }
+            throw new FunctionalTestException("Failed to load from filePath: " + resourcePath, e.getCause());
+        }
+    }
+
     public static File createJsonDefinitionFileFromClasspath(String resourcePath) {
         String[] path = resourcePath.split("/");
         String directoryStructure = "build" + File.separator + "tmp" + File.separator + path[path.length-3] + File.separator + path[path.length-2];
@@ -56,7 +94,8 @@ public class BeftaUtils {
             byte[] buffer = IOUtils.toByteArray(stream);
             String pathName;
             if (directoryPath.isEmpty()){
-                pathName =  "_temp_" + System.currentTimeMillis() + "_" + simpleName;
+                pathName = "_temp_" + System.currentTimeMillis() + "_" + temporaryFileSequence.incrementAndGet() + "_"
+                        + simpleName;
             } else {
                 pathName = directoryPath + File.separator + simpleName;
             }
@@ -2,8 +2,10 @@ package uk.gov.hmcts.befta.util;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -11,6 +13,7 @@ import java.util.stream.StreamSupport;
 import uk.gov.hmcts.befta.TestAutomationAdapter;
 import uk.gov.hmcts.befta.data.HttpTestData;
 import uk.gov.hmcts.befta.data.RequestData;
+import uk.gov.hmcts.befta.data.ResponseData;
 import uk.gov.hmcts.befta.data.UserData;
 import uk.gov.hmcts.befta.exception.FunctionalTestException;
 import uk.gov.hmcts.befta.player.BackEndFunctionalTestScenarioContext;
@@ -61,11 +64,12 @@ public class DynamicValueInjector {
             queryParams.forEach(
                     (key, value) -> queryParams.put(key, getDynamicValueFor("request.queryParams", key, value)));
         }
-        injectDynamicValuesInto("request.body", requestData.getBody());
+        requestData.setBody(injectDynamicValuesInto("request.body", requestData.getBody()));
     }
 
     private void injectValuesDetailsFromContextAfterApiCall() {
-        injectDynamicValuesInto("expectedResponse.body", testData.getExpectedResponse().getBody());
+        ResponseData expectedResponse = testData.getExpectedResponse();
+        expectedResponse.setBody(injectDynamicValuesInto("expectedResponse.body", expectedResponse.getBody()));
     }
 
     private Object getDynamicValueFor(String path, String key, Object value) {
@@ -96,6 +100,8 @@ public class DynamicValueInjector {
     private Object processDynamicValuesIn(String input) {
         if (input == null || input.equals(""))
             return input;
+        if (input.indexOf("${") < 0 && input.indexOf("{{") < 0)
+            return input;
         StringBuffer output = new StringBuffer();
         Object outputAsNumber = null;
         boolean outputIsString = false;
@@ -157,51 +163,64 @@ public class DynamicValueInjector {
         return input.substring(pos, pos + 2).equals("{{");
     }
 
-    @SuppressWarnings("unchecked")
-    private void injectDynamicValuesInto(String path, Map<String, Object> map) {
+    /**
+     * Bodies are shared with the test data they are copied from, so they are
+     * never modified in place. Only the maps and lists on the path to a value
+     * that actually changes are copied, everything else is shared.
+     *
+     * @return the given map if nothing in it changed, or a copy of it with the
+     *         injected values
+     */
+    private Map<String, Object> injectDynamicValuesInto(String path, Map<String, Object> map) {
         if (map == null) {
-            return;
+            return null;
         }
-        map.forEach((key, value) -> {
-            if (value instanceof String) {
-                map.put(key, processDynamicValuesIn((String) value));
-            } else if (value instanceof Map<?, ?>) {
-                injectDynamicValuesInto(path + "." + key, (Map<String, Object>) value);
-            } else if (isArray(value)) {
-                ArrayList<Object> values = new ArrayList<>(Arrays.asList((Object[]) value));
-                injectDynamicValuesInto(path + "." + key, values);
-                map.put(key, values);
-            } else if (value instanceof Iterable) {
-                ArrayList<Object> values = StreamSupport.stream(((Iterable<Object>) value).spliterator(), false)
-                        .collect(Collectors.toCollection(ArrayList::new));
-                injectDynamicValuesInto(path + "." + key, values);
-                map.put(key, values);
+        Map<String, Object> injected = null;
+        for (Entry<String, Object> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            Object injectedValue = injectDynamicValuesIntoValue(path + "." + entry.getKey(), value);
+            if (injectedValue != value) {
+                if (injected == null) {
+                    injected = new LinkedHashMap<>(map);
+                }
+                injected.put(entry.getKey(), injectedValue);
             }
-        });
+        }
+        return injected == null ? map : injected;
     }
 
-    @SuppressWarnings("unchecked")
-    private void injectDynamicValuesInto(String path, List<Object> objects) {
-        if (objects == null) {
-            return;
-        }
+    private List<Object> injectDynamicValuesInto(String path, List<Object> objects) {
+        List<Object> injected = null;
         for (int i = 0; i < objects.size(); i++) {
             Object value = objects.get(i);
-            if (value instanceof String) {
-                objects.set(i, processDynamicValuesIn((String) value));
-            } else if (value instanceof Map<?, ?>) {
-                injectDynamicValuesInto(path + "[" + i + "]", (Map<String, Object>) value);
-            } else if (isArray(value)) {
-                ArrayList<Object> values = new ArrayList<>(Arrays.asList((Object[]) value));
-                injectDynamicValuesInto(path + "[" + i + "]", values);
-                objects.set(i, values);
-            } else if (value instanceof Iterable) {
-                ArrayList<Object> values = StreamSupport.stream(((Iterable<Object>) value).spliterator(), false)
-                        .collect(Collectors.toCollection(ArrayList::new));
-                injectDynamicValuesInto(path + "[" + i + "]", values);
-                objects.set(i, values);
+            Object injectedValue = injectDynamicValuesIntoValue(path + "[" + i + "]", value);
+            if (injectedValue != value) {
+                if (injected == null) {
+                    injected = new ArrayList<>(objects);
+                }
+                injected.set(i, injectedValue);
             }
         }
+        return injected == null ? objects : injected;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object injectDynamicValuesIntoValue(String path, Object value) {
+        if (value instanceof String) {
+            return processDynamicValuesIn((String) value);
+        } else if (value instanceof Map<?, ?>) {
+            return injectDynamicValuesInto(path, (Map<String, Object>) value);
+        } else if (value instanceof List<?>) {
+            return injectDynamicValuesInto(path, (List<Object>) value);
+        } else if (isArray(value)) {
+            ArrayList<Object> values = new ArrayList<>(Arrays.asList((Object[]) value));
+            return injectDynamicValuesInto(path, values);
+        } else if (value instanceof Iterable) {
+            ArrayList<Object> values = StreamSupport.stream(((Iterable<Object>) value).spliterator(), false)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            return injectDynamicValuesInto(path, values);
+        }
+        return value;
     }
 
     private Object calculateFormulaFromContext(Object container, String formula) {
@@ -0,0 +1,190 @@
+package uk.gov.hmcts.jsonstore;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+import uk.gov.hmcts.befta.exception.InvalidTestDataException;
+import uk.gov.hmcts.befta.exception.ParentNotFoundException;
+
+/**
+ * Dependency graph of the objects of a json store with inheritance. An object
+ * depends on its parent and on the objects nested in it, and is ordered after
+ * all of them, so that the objects can be resolved one by one, each from
+ * already resolved objects only.
+ */
+class InheritanceGraph {
+
+    private final Function<String, JsonNode> nodeLookup;
+    private final String idFieldName;
+    private final String inheritanceFieldName;
+    private final String resolvedMarkerFieldName;
+
+    InheritanceGraph(Function<String, JsonNode> nodeLookup, String idFieldName, String inheritanceFieldName,
+            String resolvedMarkerFieldName) {
+        this.nodeLookup = nodeLookup;
+        this.idFieldName = idFieldName;
+        this.inheritanceFieldName = inheritanceFieldName;
+        this.resolvedMarkerFieldName = resolvedMarkerFieldName;
+    }
+
+    /**
+     * Orders the given objects, and all the unresolved objects they depend on, so
+     * that every object comes after its dependencies. All missing parents and
+     * inheritance cycles among them are reported together.
+     *
+     * @throws ParentNotFoundException if only parents are missing
+     * @throws InvalidTestDataException if there are any inheritance cycles
+     */
+    List<JsonNode> resolutionOrderFor(Collection<JsonNode> objects) {
+        List<String> missingParents = new ArrayList<>();
+        Map<JsonNode, List<JsonNode>> dependencies = collectDependencies(objects, missingParents);
+
+        Map<JsonNode, Integer> pendingDependencies = new IdentityHashMap<>();
+        Map<JsonNode, List<JsonNode>> dependents = new IdentityHashMap<>();
+        Deque<JsonNode> ready = new ArrayDeque<>();
+        for (Entry<JsonNode, List<JsonNode>> entry : dependencies.entrySet()) {
+            pendingDependencies.put(entry.getKey(), entry.getValue().size());
+            if (entry.getValue().isEmpty())
+                ready.add(entry.getKey());
+            for (JsonNode dependency : entry.getValue())
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(entry.getKey());
+        }
+
+        List<JsonNode> order = new ArrayList<>(dependencies.size());
+        while (!ready.isEmpty()) {
+            JsonNode object = ready.poll();
+            order.add(object);
+            for (JsonNode dependent : dependents.getOrDefault(object, Collections.emptyList())) {
+                if (pendingDependencies.merge(dependent, -1, Integer::sum) == 0)
+                    ready.add(dependent);
+            }
+        }
+
+        List<String> cycles = order.size() < dependencies.size()
+                ? describeCycles(dependencies, pendingDependencies)
+                : Collections.emptyList();
+        throwExceptionIfUnresolvable(missingParents, cycles);
+        return order;
+    }
+
+    private Map<JsonNode, List<JsonNode>> collectDependencies(Collection<JsonNode> objects,
+            List<String> missingParents) {
+        Map<JsonNode, List<JsonNode>> dependencies = new IdentityHashMap<>();
+        Deque<JsonNode> toVisit = new ArrayDeque<>();
+        for (JsonNode object : objects) {
+            if (needsResolution(object))
+                toVisit.push(object);
+        }
+        while (!toVisit.isEmpty()) {
+            JsonNode object = toVisit.pop();
+            if (dependencies.containsKey(object))
+                continue;
+            List<JsonNode> objectDependencies = new ArrayList<>();
+            JsonNode parentIdField = object.get(inheritanceFieldName);
+            if (parentIdField != null) {
+                String parentId = parentIdField.asText();
+                JsonNode parent = nodeLookup.apply(parentId);
+                if (parent == null) {
+                    missingParents.add(
+                            "Parent object with key " + parentId + " not found for " + describeForParent(object) + ".");
+                } else if (needsResolution(parent)) {
+                    objectDependencies.add(parent);
+                }
+            }
+            collectNestedObjects(object, objectDependencies);
+            dependencies.put(object, objectDependencies);
+            objectDependencies.forEach(toVisit::push);
+        }
+        return dependencies;
+    }
+
+    private void collectNestedObjects(JsonNode container, List<JsonNode> nestedObjects) {
+        for (JsonNode child : container) {
+            if (!child.isContainerNode())
+                continue;
+            if (child.has(idFieldName) || child.has(inheritanceFieldName)) {
+                if (needsResolution(child))
+                    nestedObjects.add(child);
+            } else {
+                collectNestedObjects(child, nestedObjects);
+            }
+        }
+    }
+
+    /**
+     * Follows the dependencies left pending after ordering, each of which leads
+     * to another pending object, until an object is met again.
+     */
+    private List<String> describeCycles(Map<JsonNode, List<JsonNode>> dependencies,
+            Map<JsonNode, Integer> pendingDependencies) {
+        List<String> cycles = new ArrayList<>();
+        Map<JsonNode, Boolean> visited = new IdentityHashMap<>();
+        for (JsonNode start : dependencies.keySet()) {
+            if (pendingDependencies.get(start) == 0 || visited.containsKey(start))
+                continue;
+            Map<JsonNode, Integer> positionsOnPath = new IdentityHashMap<>();
+            List<JsonNode> path = new ArrayList<>();
+            JsonNode object = start;
+            while (object != null && !visited.containsKey(object)) {
+                visited.put(object, Boolean.TRUE);
+                positionsOnPath.put(object, path.size());
+                path.add(object);
+                object = firstPendingDependencyOf(object, dependencies, pendingDependencies);
+            }
+            if (object != null && positionsOnPath.containsKey(object)) {
+                StringBuilder cycle = new StringBuilder("Inheritance cycle found: ");
+                for (JsonNode objectOnCycle : path.subList(positionsOnPath.get(object), path.size()))
+                    cycle.append(describe(objectOnCycle)).append(" -> ");
+                cycles.add(cycle.append(describe(object)).append('.').toString());
+            }
+        }
+        return cycles;
+    }
+
+    private JsonNode firstPendingDependencyOf(JsonNode object, Map<JsonNode, List<JsonNode>> dependencies,
+            Map<JsonNode, Integer> pendingDependencies) {
+        for (JsonNode dependency : dependencies.get(object)) {
+            if (pendingDependencies.get(dependency) > 0)
+                return dependency;
+        }
+        return null;
+    }
+
+    private void throwExceptionIfUnresolvable(List<String> missingParents, List<String> cycles) {
+        List<String> problems = new ArrayList<>(missingParents);
+        problems.addAll(cycles);
+        if (problems.isEmpty())
+            return;
+        String message = problems.size() == 1 ? problems.get(0)
+                : problems.size() + " inheritance problems found:\n" + String.join("\n", problems);
+        if (cycles.isEmpty())
+            throw new ParentNotFoundException(message);
+        throw new InvalidTestDataException(message);
+    }
+
+    private boolean needsResolution(JsonNode object) {
+        return object != null && object.isContainerNode() && !object.has(resolvedMarkerFieldName);
+    }
+
+    private String describeForParent(JsonNode object) {
+        if (object.has(idFieldName))
+            return object.get(idFieldName).asText();
+        return "an object without a " + idFieldName + " value specified";
+    }
+
+    private String describe(JsonNode object) {
+        if (object.has(idFieldName))
+            return object.get(idFieldName).asText();
+        return "(an object extending " + object.get(inheritanceFieldName).asText() + ")";
+    }
+}
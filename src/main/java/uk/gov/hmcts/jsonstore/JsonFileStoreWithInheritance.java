@@ -1,15 +1,36 @@
 package uk.gov.hmcts.jsonstore;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import uk.gov.hmcts.befta.exception.InvalidTestDataException;
 
 public class JsonFileStoreWithInheritance extends JsonStoreWithInheritance {
 
+    private static final Logger logger = LoggerFactory.getLogger(JsonFileStoreWithInheritance.class);
+
     private File location;
     private ObjectMapper mapper = new ObjectMapper();
+    private Map<File, ParsedFile> parsedFiles = new LinkedHashMap<>();
+    private JsonFileWatcher watcher;
 
     public JsonFileStoreWithInheritance(File location) {
         super();
@@ -23,9 +44,198 @@ public class JsonFileStoreWithInheritance extends JsonStoreWithInheritance {
 
     @Override
     protected void buildObjectStore() throws Exception {
+        parsedFiles.clear();
         rootNode = buildObjectStoreIn(location);
     }
 
+    @Override
+    protected void addObjectStoreToLibrary() throws Exception {
+        for (ParsedFile parsedFile : parsedFiles.values())
+            addToLibrary(parsedFile.content, parsedFile.keys);
+    }
+
+    /**
+     * Starts watching the location of this store for changes, reloading the
+     * changed files as described in {@link #reloadFiles(Collection)}. Meant for
+     * long-lived runners used while test data is being edited.
+     */
+    public synchronized void startWatching() throws IOException {
+        if (watcher == null) {
+            Path directory = location.isDirectory() ? location.toPath()
+                    : location.getAbsoluteFile().getParentFile().toPath();
+            watcher = new JsonFileWatcher(directory, this::reloadFiles);
+        }
+    }
+
+    public synchronized void stopWatching() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+
+    /**
+     * Brings an already loaded store up to date with the given changed files or
+     * directories. Only the changed files are re-parsed, and only the objects
+     * whose {@code _extends_} chain touches an object defined in a changed file
+     * are re-resolved, together with the other objects in their files.
+     * 
+     * @return the ids of all re-resolved objects
+     */
+    public synchronized Set<String> reloadFiles(Collection<File> changedFiles) throws Exception {
+        if (rootNode == null)
+            return Collections.emptySet();
+        if (parsedFiles.isEmpty()) {
+            reset();
+            return Collections.emptySet();
+        }
+
+        Map<File, ParsedFile> reparsedFiles = new LinkedHashMap<>();
+        Set<File> affectedFiles = new LinkedHashSet<>();
+        Set<String> affectedIds = new HashSet<>();
+        for (File changedFile : expandChangedFiles(changedFiles)) {
+            ParsedFile previous = parsedFiles.get(changedFile);
+            if (previous != null) {
+                affectedFiles.add(changedFile);
+                affectedIds.addAll(previous.ids);
+            }
+            if (changedFile.isFile()) {
+                ParsedFile reparsed = parseFile(changedFile);
+                reparsedFiles.put(changedFile, reparsed);
+                affectedFiles.add(changedFile);
+                affectedIds.addAll(reparsed.ids);
+            }
+        }
+
+        boolean grown = !affectedIds.isEmpty();
+        while (grown) {
+            grown = false;
+            for (Map.Entry<File, ParsedFile> entry : parsedFiles.entrySet()) {
+                if (!affectedFiles.contains(entry.getKey())
+                        && !Collections.disjoint(entry.getValue().parentIds, affectedIds)) {
+                    affectedFiles.add(entry.getKey());
+                    affectedIds.addAll(entry.getValue().ids);
+                    grown = true;
+                }
+            }
+        }
+        for (File affectedFile : affectedFiles) {
+            if (!reparsedFiles.containsKey(affectedFile) && affectedFile.isFile())
+                reparsedFiles.put(affectedFile, parseFile(affectedFile));
+        }
+        validateGUIDsAfterReload(affectedFiles, reparsedFiles.values());
+
+        Set<String> removedKeys = new HashSet<>();
+        for (File affectedFile : affectedFiles) {
+            ParsedFile previous = reparsedFiles.containsKey(affectedFile) ? parsedFiles.get(affectedFile)
+                    : parsedFiles.remove(affectedFile);
+            if (previous != null)
+                removedKeys.addAll(previous.keys);
+        }
+        removeFromLibrary(removedKeys);
+
+        Set<String> addedKeys = new HashSet<>();
+        for (Map.Entry<File, ParsedFile> entry : reparsedFiles.entrySet()) {
+            parsedFiles.put(entry.getKey(), entry.getValue());
+            addToLibrary(entry.getValue().content, entry.getValue().keys);
+            addedKeys.addAll(entry.getValue().keys);
+        }
+        evictConvertedObjects(addedKeys);
+        rootNode = buildRootNodeFromParsedFiles();
+        applyInheritanceOnAddedObjects(addedKeys);
+
+        logger.info("Reloaded {} test data files, re-resolving {} objects.", affectedFiles.size(), affectedIds.size());
+        return affectedIds;
+    }
+
+    private Set<File> expandChangedFiles(Collection<File> changedFiles) {
+        Set<File> expanded = new LinkedHashSet<>();
+        Path locationPath = location.getAbsoluteFile().toPath();
+        for (File changedFile : changedFiles) {
+            File file = changedFile.getAbsoluteFile();
+            if (!file.toPath().startsWith(locationPath))
+                continue;
+            if (file.isDirectory()) {
+                collectJsonFiles(file, expanded);
+            } else if (isJsonFile(file)) {
+                expanded.add(file);
+            }
+            for (File parsedFile : parsedFiles.keySet()) {
+                if (parsedFile.toPath().startsWith(file.toPath()))
+                    expanded.add(parsedFile);
+            }
+        }
+        return expanded;
+    }
+
+    private void collectJsonFiles(File directory, Set<File> jsonFiles) {
+        File[] subfiles = directory.listFiles();
+        if (subfiles == null)
+            return;
+        for (File subfile : subfiles) {
+            if (subfile.isDirectory())
+                collectJsonFiles(subfile, jsonFiles);
+            else if (isJsonFile(subfile))
+                jsonFiles.add(subfile);
+        }
+    }
+
+    private boolean isJsonFile(File file) {
+        return file.getName().toLowerCase().endsWith(".json");
+    }
+
+    private void validateGUIDsAfterReload(Set<File> affectedFiles, Collection<ParsedFile> reparsedFiles) {
+        Set<String> guids = new HashSet<>();
+        for (Map.Entry<File, ParsedFile> entry : parsedFiles.entrySet()) {
+            if (!affectedFiles.contains(entry.getKey()) && entry.getValue().guid != null)
+                guids.add(entry.getValue().guid);
+        }
+        for (ParsedFile reparsedFile : reparsedFiles) {
+            if (reparsedFile.guid != null && !guids.add(reparsedFile.guid))
+                throw new InvalidTestDataException("Object with _guid_=" + reparsedFile.guid + " already exists");
+        }
+    }
+
+    private JsonNode buildRootNodeFromParsedFiles() {
+        if (!location.isDirectory() && !parsedFiles.isEmpty())
+            return parsedFiles.values().iterator().next().content;
+        ArrayNode store = new ArrayNode(null);
+        for (ParsedFile parsedFile : parsedFiles.values()) {
+            if (parsedFile.content.isArray()) {
+                for (int i = 0; i < parsedFile.content.size(); i++)
+                    store.add(parsedFile.content.get(i));
+            } else
+                store.add(parsedFile.content);
+        }
+        if (store.size() == 1)
+            return store.get(0);
+        return store;
+    }
+
+    @Override
+    protected int getResourceCount() {
+        return parsedFiles.size();
+    }
+
+    @Override
+    protected String computeContentHash() throws Exception {
+        MessageDigest digest = JsonStoreSnapshot.newContentDigest(idFieldName, inheritanceFieldName);
+        updateContentHash(digest, location, "");
+        return JsonStoreSnapshot.toHex(digest);
+    }
+
+    private void updateContentHash(MessageDigest digest, File file, String relativePath) throws Exception {
+        if (file.isDirectory()) {
+            File[] subfiles = file.listFiles();
+            Arrays.sort(subfiles);
+            for (File subfile : subfiles)
+                updateContentHash(digest, subfile, relativePath + "/" + subfile.getName());
+        } else if (relativePath.isEmpty() || file.getName().toLowerCase().endsWith(".json")) {
+            JsonStoreSnapshot.update(digest, relativePath);
+            JsonStoreSnapshot.update(digest, new FileInputStream(file));
+        }
+    }
+
     private JsonNode buildObjectStoreIn(File location) throws Exception {
         if (!location.isDirectory())
             return buildObjectStoreInAFile(location);
@@ -54,6 +264,36 @@ public class JsonFileStoreWithInheritance extends JsonStoreWithInheritance {
     }
 
     private JsonNode buildObjectStoreInAFile(File file) throws Exception {
-        return mapper.readTree(file);
+        ParsedFile parsedFile = parseFile(file.getAbsoluteFile());
+        parsedFiles.put(file.getAbsoluteFile(), parsedFile);
+        return parsedFile.content;
+    }
+
+    private ParsedFile parseFile(File file) throws Exception {
+        ParsedFile parsedFile = new ParsedFile(mapper.readTree(file));
+        collectIdsAndParentIds(parsedFile.content, parsedFile);
+        return parsedFile;
+    }
+
+    private void collectIdsAndParentIds(JsonNode node, ParsedFile parsedFile) {
+        if (node.has(idFieldName))
+            parsedFile.ids.add(node.get(idFieldName).asText());
+        if (node.has(inheritanceFieldName))
+            parsedFile.parentIds.add(node.get(inheritanceFieldName).asText());
+        for (JsonNode child : node)
+            collectIdsAndParentIds(child, parsedFile);
+    }
+
+    private static class ParsedFile {
+        private final JsonNode content;
+        private final String guid;
+        private final Set<String> ids = new HashSet<>();
+        private final Set<String> parentIds = new HashSet<>();
+        private final Set<String> keys = new HashSet<>();
+
+        private ParsedFile(JsonNode content) {
+            this.content = content;
+            this.guid = content.path(GUID).asText(null);
+        }
     }
 }
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.jsonstore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a directory tree with an NIO {@link WatchService} and reports the
+ * files and directories changed in it in batches. Changes arriving within a
+ * short quiet period of each other, like the ones an editor makes while saving
+ * a file, are reported together.
+ */
+class JsonFileWatcher implements Closeable {
+
+    interface Listener {
+        void filesChanged(Set<File> changedFiles) throws Exception;
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonFileWatcher.class);
+
+    private static final long QUIET_PERIOD_MILLIS = 100;
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+    private final Listener listener;
+    private final Thread thread;
+
+    JsonFileWatcher(Path directory, Listener listener) throws IOException {
+        this.listener = listener;
+        this.watchService = directory.getFileSystem().newWatchService();
+        registerAll(directory);
+        thread = new Thread(this::watch, "befta-test-data-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void close() throws IOException {
+        thread.interrupt();
+        watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                Set<File> changedFiles = new LinkedHashSet<>();
+                while (key != null) {
+                    collectChanges(key, changedFiles);
+                    key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                notifyListener(changedFiles);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.debug("Stopped watching test data files.");
+        }
+    }
+
+    private void collectChanges(WatchKey key, Set<File> changedFiles) {
+        Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (directory == null) {
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changedFiles.add(directory.toFile());
+                continue;
+            }
+            Path changed = directory.resolve((Path) event.context());
+            changedFiles.add(changed.toFile());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changed)) {
+                try {
+                    registerAll(changed);
+                } catch (IOException e) {
+                    logger.warn("Could not watch new test data directory {}.", changed, e);
+                }
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+    }
+
+    private void notifyListener(Set<File> changedFiles) {
+        if (changedFiles.isEmpty()) {
+            return;
+        }
+        try {
+            listener.filesChanged(changedFiles);
+        } catch (Exception e) {
+            logger.error("Could not reload changed test data files {}.", changedFiles, e);
+        }
+    }
+
+    private void registerAll(Path root) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes)
+                    throws IOException {
+                WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+                directories.put(key, directory);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
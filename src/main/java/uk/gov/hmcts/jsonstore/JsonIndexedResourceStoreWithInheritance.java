@@ -0,0 +1,201 @@
+package uk.gov.hmcts.jsonstore;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.google.common.io.ByteStreams;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import uk.gov.hmcts.befta.exception.InvalidTestDataException;
+
+/**
+ * Resource store which does not build the trees of its resources on load.
+ * Instead, it scans each resource once with the streaming parser and records
+ * the byte range of every object with an id. The tree of an object is only
+ * built when the object, or an object extending it, is looked up. Resources
+ * that are files on disk are memory-mapped rather than read.
+ * <p>
+ * Inheritance is always resolved lazily in this store, and snapshots are not
+ * supported.
+ */
+public class JsonIndexedResourceStoreWithInheritance extends JsonStoreWithInheritance {
+
+    private String[] resourcePaths;
+
+    private ObjectMapper mapper = new ObjectMapper();
+
+    private Map<String, IndexedObject> objectIndex = new HashMap<>();
+
+    public JsonIndexedResourceStoreWithInheritance(String[] resourcePaths) {
+        super();
+        this.resourcePaths = resourcePaths;
+        this.lazyInheritance = true;
+    }
+
+    public JsonIndexedResourceStoreWithInheritance(String[] resourcePaths, String idFieldName,
+            String inheritanceFieldName) {
+        super(idFieldName, inheritanceFieldName);
+        this.resourcePaths = resourcePaths;
+        this.lazyInheritance = true;
+    }
+
+    /**
+     * Ignored, as this store always resolves inheritance lazily.
+     */
+    @Override
+    public void setLazyInheritance(boolean lazyInheritance) {
+        // objects are only ever materialised, and resolved, on demand
+    }
+
+    @Override
+    protected void buildObjectStore() throws Exception {
+        objectIndex.clear();
+        for (String resource : resourcePaths) {
+            if (resource.toLowerCase().endsWith(".json"))
+                indexResource(resource);
+        }
+        rootNode = new ArrayNode(mapper.getNodeFactory());
+    }
+
+    @Override
+    protected int getResourceCount() {
+        int resourceCount = 0;
+        for (String resource : resourcePaths) {
+            if (resource.toLowerCase().endsWith(".json"))
+                resourceCount++;
+        }
+        return resourceCount;
+    }
+
+    @Override
+    protected void addObjectStoreToLibrary() {
+        // objects are added to the library as they are materialised
+    }
+
+    @Override
+    protected JsonNode getNodeFromLibrary(String key) {
+        JsonNode node = nodeLibrary.get(key);
+        if (node == null) {
+            IndexedObject indexedObject = objectIndex.get(key);
+            if (indexedObject != null && !indexedObject.materialised) {
+                materialise(indexedObject);
+                node = nodeLibrary.get(key);
+            }
+        }
+        return node;
+    }
+
+    @Override
+    protected synchronized void reset() {
+        super.reset();
+        objectIndex.clear();
+    }
+
+    private void materialise(IndexedObject indexedObject) {
+        ByteBuffer content = indexedObject.content.duplicate();
+        ((Buffer) content).position(indexedObject.start);
+        ((Buffer) content).limit(indexedObject.end);
+        try (InputStream in = new ByteBufferBackedInputStream(content)) {
+            JsonNode object = mapper.readTree(in);
+            indexedObject.materialised = true;
+            ((ArrayNode) rootNode).add(object);
+            addToLibrary(object, null);
+        } catch (Exception e) {
+            throw new InvalidTestDataException("Could not read object " + indexedObject.id + " from "
+                    + indexedObject.resource + ".", e);
+        }
+    }
+
+    private void indexResource(String resource) throws Exception {
+        ByteBuffer content = readResource(resource);
+        List<IndexedObject> objectsWithIds = new ArrayList<>();
+        JsonFactory factory = mapper.getFactory();
+        try (JsonParser parser = factory.createParser(new ByteBufferBackedInputStream(content.duplicate()))) {
+            Deque<IndexedObject> openObjects = new ArrayDeque<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    openObjects.push(new IndexedObject(resource, content,
+                            (int) parser.getTokenLocation().getByteOffset()));
+                } else if (token == JsonToken.END_OBJECT) {
+                    IndexedObject object = openObjects.pop();
+                    if (object.id != null) {
+                        object.end = (int) parser.getTokenLocation().getByteOffset() + 1;
+                        objectsWithIds.add(object);
+                    }
+                } else if (token.isScalarValue() && parser.getParsingContext().inObject()
+                        && idFieldName.equals(parser.getCurrentName())) {
+                    openObjects.peek().id = parser.getValueAsString();
+                }
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw e;
+        }
+        addToIndex(objectsWithIds);
+    }
+
+    /**
+     * Indexes each object under the outermost object with an id it is nested in,
+     * as that is the tree that gets built when either of them is looked up.
+     */
+    private void addToIndex(List<IndexedObject> objectsWithIds) {
+        objectsWithIds.sort(Comparator.comparingInt(object -> object.start));
+        IndexedObject outermost = null;
+        for (IndexedObject object : objectsWithIds) {
+            if (outermost == null || object.start >= outermost.end) {
+                outermost = object;
+                validateGUID(object.id);
+                processedGUIDs.add(object.id);
+            }
+            objectIndex.put(object.id, outermost);
+        }
+    }
+
+    private ByteBuffer readResource(String resource) throws Exception {
+        URL url = this.getClass().getClassLoader().getResource(resource);
+        if (url == null)
+            throw new InvalidTestDataException("Test data resource " + resource + " not found.");
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(new File(url.toURI()).toPath(), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+        try (InputStream in = url.openStream()) {
+            return ByteBuffer.wrap(ByteStreams.toByteArray(in));
+        }
+    }
+
+    private static class IndexedObject {
+        private final String resource;
+        private final ByteBuffer content;
+        private final int start;
+        private int end;
+        private String id;
+        private boolean materialised;
+
+        private IndexedObject(String resource, ByteBuffer content, int start) {
+            this.resource = resource;
+            this.content = content;
+            this.start = start;
+        }
+    }
+}
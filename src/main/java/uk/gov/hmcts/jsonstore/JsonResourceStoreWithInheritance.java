@@ -5,6 +5,15 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.MissingNode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class JsonResourceStoreWithInheritance extends JsonStoreWithInheritance {
 
@@ -27,26 +36,93 @@ public class JsonResourceStoreWithInheritance extends JsonStoreWithInheritance {
         rootNode = buildObjectStoreInResourcePaths();
     }
 
-    private JsonNode buildObjectStoreInResourcePaths() throws Exception {
-        ArrayNode store = new ArrayNode(null);
+    @Override
+    protected int getResourceCount() {
+        int resourceCount = 0;
         for (String resource : resourcePaths) {
-            JsonNode substore = null;
             if (resource.toLowerCase().endsWith(".json"))
-                substore = buildObjectStoreInAResource(resource);
-            if (substore != null && !substore.equals(MissingNode.getInstance())) {
-                String guid = substore.get(GUID).asText();
-                validateGUID(guid);
-                if (substore.isArray()) {
-                    for (int i = 0; i < substore.size(); i++)
-                        store.add(substore.get(i));
-                } else
-                    store.add(substore);
-                processedGUIDs.add(guid);
+                resourceCount++;
+        }
+        return resourceCount;
+    }
+
+    @Override
+    protected String computeContentHash() throws Exception {
+        MessageDigest digest = JsonStoreSnapshot.newContentDigest(idFieldName, inheritanceFieldName);
+        for (String resource : resourcePaths) {
+            if (resource.toLowerCase().endsWith(".json")) {
+                JsonStoreSnapshot.update(digest, resource);
+                String knownContentHash = knownContentHashes.get(resource);
+                if (knownContentHash != null)
+                    JsonStoreSnapshot.update(digest, knownContentHash);
+                else
+                    JsonStoreSnapshot.update(digest, this.getClass().getClassLoader().getResourceAsStream(resource));
             }
         }
-        if (store.size() == 1)
-            return store.get(0);
-        return store;
+        return JsonStoreSnapshot.toHex(digest);
+    }
+
+    /**
+     * Merges the resources in the order of the resource paths, validating the
+     * GUID of each as it is merged. With more than one resource and a parsing
+     * parallelism over one, the resources are parsed ahead on a bounded pool of
+     * threads, but still merged, and their errors thrown, on the calling thread
+     * in the same order as in a sequential load.
+     */
+    private JsonNode buildObjectStoreInResourcePaths() throws Exception {
+        // a pool of threads is only worth it, and only possible, with more than one resource
+        ExecutorService executor = parsingParallelism > 1 && resourcePaths.length > 1
+                ? Executors.newFixedThreadPool(Math.min(parsingParallelism, resourcePaths.length),
+                        new ThreadFactoryBuilder().setNameFormat("befta-test-data-parser-%d").setDaemon(true).build())
+                : null;
+        try {
+            List<Future<JsonNode>> parsedResources = executor == null ? null : parseResourcesOn(executor);
+            ArrayNode store = new ArrayNode(null);
+            for (int index = 0; index < resourcePaths.length; index++) {
+                JsonNode substore = parsedResources == null ? parseResource(resourcePaths[index])
+                        : waitForParsing(parsedResources.get(index));
+                if (substore != null && !substore.equals(MissingNode.getInstance())) {
+                    String guid = substore.get(GUID).asText();
+                    validateGUID(guid);
+                    if (substore.isArray()) {
+                        for (int i = 0; i < substore.size(); i++)
+                            store.add(substore.get(i));
+                    } else
+                        store.add(substore);
+                    processedGUIDs.add(guid);
+                }
+            }
+            if (store.size() == 1)
+                return store.get(0);
+            return store;
+        } finally {
+            if (executor != null)
+                executor.shutdownNow();
+        }
+    }
+
+    private List<Future<JsonNode>> parseResourcesOn(ExecutorService executor) {
+        List<Future<JsonNode>> futures = new ArrayList<>(resourcePaths.length);
+        for (String resource : resourcePaths) {
+            futures.add(executor.submit(() -> parseResource(resource)));
+        }
+        return futures;
+    }
+
+    private JsonNode waitForParsing(Future<JsonNode> parsedResource) throws Exception {
+        try {
+            return parsedResource.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception)
+                throw (Exception) e.getCause();
+            throw e;
+        }
+    }
+
+    private JsonNode parseResource(String resource) throws Exception {
+        if (resource.toLowerCase().endsWith(".json"))
+            return buildObjectStoreInAResource(resource);
+        return null;
     }
 
     private JsonNode buildObjectStoreInAResource(String resource) throws Exception {
@@ -0,0 +1,131 @@
+package uk.gov.hmcts.jsonstore;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timings and sizes of a json store with inheritance: how many resources it
+ * was loaded from, how long loading them and resolving inheritance took, how
+ * big the loaded trees are, and how long lookups take. The load time covers
+ * everything up to the objects being in the library: hashing the resources
+ * and reading a snapshot where one is used, parsing the resources otherwise.
+ */
+public class JsonStoreMetrics {
+
+    private volatile int resourceCount;
+    private volatile boolean loadedFromSnapshot;
+    private final AtomicLong loadNanos = new AtomicLong();
+    private final AtomicLong inheritanceResolutionNanos = new AtomicLong();
+    private final AtomicLong resolvedObjectCount = new AtomicLong();
+    private final AtomicLong convertedObjectCount = new AtomicLong();
+    private volatile long nodeCount;
+    private volatile long retainedSizeEstimate;
+    private final LatencyHistogram lookupLatency = new LatencyHistogram();
+
+    void recordLoad(int resourceCount, boolean loadedFromSnapshot, long nanos) {
+        this.resourceCount = resourceCount;
+        this.loadedFromSnapshot = loadedFromSnapshot;
+        loadNanos.addAndGet(nanos);
+    }
+
+    void recordInheritanceResolution(int objectCount, long nanos) {
+        resolvedObjectCount.addAndGet(objectCount);
+        inheritanceResolutionNanos.addAndGet(nanos);
+    }
+
+    void recordConversion() {
+        convertedObjectCount.incrementAndGet();
+    }
+
+    void recordLookup(long nanos) {
+        lookupLatency.record(nanos);
+    }
+
+    /**
+     * Counts the nodes in the given tree, each shared node once, and estimates
+     * the heap they retain, assuming a 64-bit JVM with compressed references.
+     * Field names are left out, as the parser interns them.
+     */
+    void recordTreeSizeOf(JsonNode root) {
+        long nodes = 0;
+        long bytes = 0;
+        Map<JsonNode, Boolean> visited = new IdentityHashMap<>();
+        Deque<JsonNode> toVisit = new ArrayDeque<>();
+        if (root != null)
+            toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            JsonNode node = toVisit.pop();
+            if (visited.put(node, Boolean.TRUE) != null)
+                continue;
+            nodes++;
+            bytes += estimateShallowSizeOf(node);
+            for (JsonNode child : node)
+                toVisit.push(child);
+        }
+        nodeCount = nodes;
+        retainedSizeEstimate = bytes;
+    }
+
+    private long estimateShallowSizeOf(JsonNode node) {
+        if (node.isObject())
+            return 88 + 48L * node.size();
+        if (node.isArray())
+            return 56 + 4L * node.size();
+        if (node.isTextual())
+            return 56 + 2L * node.textValue().length();
+        if (node.isNull() || node.isBoolean() || node.isMissingNode())
+            return 0;
+        return 24;
+    }
+
+    public int getResourceCount() {
+        return resourceCount;
+    }
+
+    public boolean isLoadedFromSnapshot() {
+        return loadedFromSnapshot;
+    }
+
+    public double getLoadMillis() {
+        return loadNanos.get() / 1_000_000.0;
+    }
+
+    public double getInheritanceResolutionMillis() {
+        return inheritanceResolutionNanos.get() / 1_000_000.0;
+    }
+
+    public long getResolvedObjectCount() {
+        return resolvedObjectCount.get();
+    }
+
+    public long getConvertedObjectCount() {
+        return convertedObjectCount.get();
+    }
+
+    public long getNodeCount() {
+        return nodeCount;
+    }
+
+    public long getRetainedSizeEstimateBytes() {
+        return retainedSizeEstimate;
+    }
+
+    public LatencyHistogram getLookupLatency() {
+        return lookupLatency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%d resources loaded in %.1f ms%s, inheritance resolved on %d objects in %.1f ms, "
+                        + "%d objects converted, %d nodes of about %d KB, lookups: %s",
+                getResourceCount(), getLoadMillis(), isLoadedFromSnapshot() ? " (from snapshot)" : "",
+                getResolvedObjectCount(), getInheritanceResolutionMillis(), getConvertedObjectCount(),
+                getNodeCount(), getRetainedSizeEstimateBytes() / 1024, getLookupLatency());
+    }
+}
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.jsonstore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+
+/**
+ * Binary (Smile) snapshot of a fully resolved json store, keyed by a content
+ * hash of all the inputs the store was built from. A snapshot is only used when
+ * the hash recorded in it matches the hash of the current inputs.
+ */
+class JsonStoreSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonStoreSnapshot.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String FORMAT_VERSION_FIELD = "formatVersion";
+    private static final String CONTENT_HASH_FIELD = "contentHash";
+    private static final String ROOT_FIELD = "root";
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final ObjectMapper mapper = new ObjectMapper(new SmileFactory());
+
+    private final File file;
+
+    JsonStoreSnapshot(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Creates a digest already seeded with the snapshot format and the mechanism
+     * field names, so that a change in any of them invalidates existing snapshots.
+     */
+    static MessageDigest newContentDigest(String idFieldName, String inheritanceFieldName) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        update(digest, String.valueOf(FORMAT_VERSION));
+        update(digest, idFieldName);
+        update(digest, inheritanceFieldName);
+        return digest;
+    }
+
+    static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    static void update(MessageDigest digest, InputStream content) throws Exception {
+        if (content == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        try (InputStream in = content) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        digest.update((byte) 0);
+    }
+
+    static String toHex(MessageDigest digest) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * @return the resolved root node in the snapshot, or null if there is no
+     *         usable snapshot for the given content hash
+     */
+    JsonNode read(String contentHash) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            JsonNode snapshot = mapper.readTree(file);
+            if (snapshot.path(FORMAT_VERSION_FIELD).asInt() != FORMAT_VERSION
+                    || !contentHash.equals(snapshot.path(CONTENT_HASH_FIELD).asText())) {
+                logger.info("Test data snapshot {} is out of date and will be rebuilt.", file);
+                return null;
+            }
+            return snapshot.get(ROOT_FIELD);
+        } catch (Exception e) {
+            logger.warn("Test data snapshot {} could not be read and will be rebuilt.", file, e);
+            return null;
+        }
+    }
+
+    void write(String contentHash, JsonNode rootNode) {
+        try {
+            ObjectNode snapshot = mapper.createObjectNode();
+            snapshot.put(FORMAT_VERSION_FIELD, FORMAT_VERSION);
+            snapshot.put(CONTENT_HASH_FIELD, contentHash);
+            snapshot.set(ROOT_FIELD, rootNode);
+
+            Path directory = file.getAbsoluteFile().getParentFile().toPath();
+            Files.createDirectories(directory);
+            Path temporaryFile = Files.createTempFile(directory, file.getName(), ".tmp");
+            mapper.writeValue(temporaryFile.toFile(), snapshot);
+            Files.move(temporaryFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (Exception e) {
+            logger.warn("Test data snapshot {} could not be written.", file, e);
+        }
+    }
+}
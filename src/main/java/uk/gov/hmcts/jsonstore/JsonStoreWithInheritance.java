@@ -3,21 +3,26 @@ package uk.gov.hmcts.jsonstore;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.BooleanNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Sets;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import uk.gov.hmcts.befta.exception.InvalidTestDataException;
-import uk.gov.hmcts.befta.exception.ParentNotFoundException;
 import uk.gov.hmcts.befta.util.ReflectionUtils;
 
 public abstract class JsonStoreWithInheritance {
@@ -26,13 +31,22 @@ public abstract class JsonStoreWithInheritance {
     private static final String REPLACE_ARRAY_CONTENT = "__befta_replace__";
     protected static final String GUID = "_guid_";
     protected static final String EXTENDS = "_extends_";
+    private static final Object NO_OBJECT = new Object();
 
     protected JsonNode rootNode;
     protected Map<String, JsonNode> nodeLibrary = new HashMap<>();
-    protected Map<Class<?>, Map<String, ?>> objectLibraryPerTypes = new HashMap<>();
+    protected Map<Class<?>, Map<String, Object>> objectLibraryPerTypes = new ConcurrentHashMap<>();
     protected final String idFieldName;
     protected final String inheritanceFieldName;
     protected Set<String> processedGUIDs = Sets.newHashSet();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    protected File snapshotFile;
+    protected Map<String, String> knownContentHashes = new HashMap<>();
+    protected boolean lazyInheritance = false;
+    protected int parsingParallelism = 1;
+    private boolean inheritanceAppliedOnAll = false;
+    private final JsonStoreMetrics metrics = new JsonStoreMetrics();
 
     public JsonStoreWithInheritance() {
         this(GUID, EXTENDS);
@@ -43,6 +57,58 @@ public abstract class JsonStoreWithInheritance {
         this.inheritanceFieldName = inheritanceFieldName;
     }
 
+    /**
+     * Enables the snapshot mode: the resolved store is written to the given file
+     * in a compact binary form, and loaded directly from it on later runs as long
+     * as none of the inputs of the store have changed.
+     */
+    public void setSnapshotFile(File snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+
+    /**
+     * Sets already known content hashes of the inputs of this store, by input
+     * name, to use instead of reading those inputs when computing the snapshot
+     * content hash.
+     */
+    public void setKnownContentHashes(Map<String, String> knownContentHashes) {
+        this.knownContentHashes = knownContentHashes;
+    }
+
+    /**
+     * Enables the lazy inheritance mode: instead of resolving the whole store on
+     * load, each object is resolved together with its ancestors only when it is
+     * first looked up. Ignored when the store is loaded from, or has to refresh,
+     * a snapshot, as a snapshot holds the whole store resolved.
+     */
+    public void setLazyInheritance(boolean lazyInheritance) {
+        this.lazyInheritance = lazyInheritance;
+    }
+
+    /**
+     * Sets the number of threads stores that support it can parse their inputs
+     * on. A value of 1, the default, keeps parsing on the calling thread.
+     */
+    public void setParsingParallelism(int parsingParallelism) {
+        this.parsingParallelism = parsingParallelism;
+    }
+
+    /**
+     * @return the metrics of this store, with the sizes of the trees loaded so
+     *         far measured at the time of the call
+     */
+    public synchronized JsonStoreMetrics getMetrics() {
+        metrics.recordTreeSizeOf(rootNode);
+        return metrics;
+    }
+
+    /**
+     * @return the number of resources, or files, the store has been loaded from
+     */
+    protected int getResourceCount() {
+        return 0;
+    }
+
     protected JsonNode getRootNode() throws Exception {
         if (rootNode == null)
             loadStore();
@@ -56,46 +122,92 @@ public abstract class JsonStoreWithInheritance {
     }
 
     private void loadStore() throws Exception {
+        long start = System.nanoTime();
         try {
+            JsonStoreSnapshot snapshot = null;
+            String contentHash = null;
+            if (snapshotFile != null) {
+                snapshot = new JsonStoreSnapshot(snapshotFile);
+                contentHash = computeContentHash();
+            }
+            if (contentHash != null) {
+                JsonNode resolvedRootNode = snapshot.read(contentHash);
+                if (resolvedRootNode != null) {
+                    rootNode = resolvedRootNode;
+                    addToLibrary(rootNode, null);
+                    inheritanceAppliedOnAll = true;
+                    metrics.recordLoad(getResourceCount(), true, System.nanoTime() - start);
+                    return;
+                }
+            }
             buildObjectStore();
-            addToLibrary(rootNode);
-            for (String id : nodeLibrary.keySet())
-                inheritAndOverlayValuesFor(nodeLibrary.get(id));
+            addObjectStoreToLibrary();
+            metrics.recordLoad(getResourceCount(), false, System.nanoTime() - start);
+            if (lazyInheritance && contentHash == null)
+                return;
+            applyInheritanceOn(nodeLibrary.values());
             removeInheritanceMechanismFields(rootNode);
+            inheritanceAppliedOnAll = true;
+            if (contentHash != null) {
+                snapshot.write(contentHash, rootNode);
+            }
         } catch (Exception e) {
             e.printStackTrace();
             throw e;
         }
     }
 
+    /**
+     * Converts the object with the given id into the given type on its first
+     * lookup, binding the resolved tree directly, and caches the result per type
+     * and id. Lookups of already converted objects do not lock the store.
+     */
     @SuppressWarnings("unchecked")
-    private <T> Map<String, T> getMapWithIds(Class<? extends T> clazz) throws Exception {
-        Map<String, T> objectLibrary = (Map<String, T>) objectLibraryPerTypes.get(clazz);
-        if (objectLibrary == null) {
-            objectLibrary = new HashMap<String, T>();
-            Set<String> keys = getNodeLibrary().keySet();
-            ObjectMapper om = new ObjectMapper();
-            om.enable(SerializationFeature.INDENT_OUTPUT);
-            om.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-            for (String key : keys) {
-                JsonNode nodeInLibrary = nodeLibrary.get(key);
-                String jsonText = om.writeValueAsString(nodeInLibrary);
-                T anOnject = om.readValue(jsonText, clazz);
-                try {
-                    if (ReflectionUtils.retrieveFieldInObject(anOnject, idFieldName) != null) {
-                        objectLibrary.put(key, anOnject);
-                    }
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
+    public <T> T getObjectWithId(String id, Class<? extends T> clazz) throws Exception {
+        long start = System.nanoTime();
+        Map<String, Object> objectLibrary = objectLibraryPerTypes.get(clazz);
+        Object anObject = objectLibrary == null ? null : objectLibrary.get(id);
+        if (anObject == null)
+            anObject = convertAndCacheObjectWithId(id, clazz);
+        metrics.recordLookup(System.nanoTime() - start);
+        return anObject == NO_OBJECT ? null : (T) anObject;
+    }
+
+    private synchronized Object convertAndCacheObjectWithId(String id, Class<?> clazz) throws Exception {
+        getNodeLibrary();
+        Map<String, Object> objectLibrary = objectLibraryPerTypes.computeIfAbsent(clazz,
+                key -> new ConcurrentHashMap<>());
+        Object cachedObject = objectLibrary.get(id);
+        if (cachedObject != null)
+            return cachedObject;
+
+        Object anObject = null;
+        JsonNode nodeInLibrary = getNodeFromLibrary(id);
+        if (nodeInLibrary != null) {
+            if (!inheritanceAppliedOnAll) {
+                applyInheritanceOn(Collections.singletonList(nodeInLibrary));
+                nodeInLibrary = nodeInLibrary.deepCopy();
+                removeInheritanceMechanismFields(nodeInLibrary);
             }
-            objectLibraryPerTypes.put(clazz, objectLibrary);
+            anObject = convertToObjectWithId(nodeInLibrary, clazz);
+            metrics.recordConversion();
         }
-        return objectLibrary;
+        if (anObject == null)
+            anObject = NO_OBJECT;
+        objectLibrary.put(id, anObject);
+        return anObject;
     }
 
-    public <T> T getObjectWithId(String id, Class<? extends T> clazz) throws Exception {
-        return getMapWithIds(clazz).get(id);
+    private <T> T convertToObjectWithId(JsonNode nodeInLibrary, Class<? extends T> clazz) throws Exception {
+        T anObject = objectMapper.treeToValue(nodeInLibrary, clazz);
+        try {
+            if (ReflectionUtils.retrieveFieldInObject(anObject, idFieldName) != null) {
+                return anObject;
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return null;
     }
 
     private void removeInheritanceMechanismFields(JsonNode node) {
@@ -113,109 +225,120 @@ public abstract class JsonStoreWithInheritance {
 
     protected abstract void buildObjectStore() throws Exception;
 
+    /**
+     * Computes a hash of all the inputs this store is built from, to key
+     * snapshots with.
+     * 
+     * @return the hash, or null if this store does not support snapshots
+     */
+    protected String computeContentHash() throws Exception {
+        return null;
+    }
+
     protected void validateGUID(String guid) {
         if (processedGUIDs.contains(guid))
             throw new InvalidTestDataException("Object with _guid_=" + guid + " already exists");
     }
 
+    /**
+     * Resolves the given objects, and the objects they depend on, in dependency
+     * order, so that each object is resolved exactly once, from its already
+     * resolved parent.
+     *
+     * @return the objects resolved, in the order they were resolved
+     */
+    private List<JsonNode> applyInheritanceOn(Collection<JsonNode> objects) {
+        long start = System.nanoTime();
+        InheritanceGraph graph = new InheritanceGraph(this::getNodeFromLibrary, idFieldName, inheritanceFieldName,
+                INHERITANCE_APPLIED);
+        List<JsonNode> resolutionOrder = graph.resolutionOrderFor(objects);
+        for (JsonNode object : resolutionOrder)
+            inheritAndOverlayValuesFor(object);
+        metrics.recordInheritanceResolution(resolutionOrder.size(), System.nanoTime() - start);
+        return resolutionOrder;
+    }
+
+    /**
+     * Applies inheritance on an object whose parent, and all objects nested in
+     * it, are already resolved. Parent values the object does not override are
+     * shared rather than copied, and overlaid values are copied only along the
+     * overlaid paths, so resolved nodes must not be modified in place.
+     */
     private void inheritAndOverlayValuesFor(JsonNode object) {
-        if (!shouldApplyInheritanceOn(object))
-            return;
         JsonNode parentIdField = object.get(inheritanceFieldName);
         if (parentIdField != null) {
-            String parentId = parentIdField.asText();
-            JsonNode parentNode = nodeLibrary.get(parentId);
-            throwExceptionIfParentNotFound(object, parentNode, parentId);
-            inheritAndOverlayValuesFor(parentNode);
-            Iterator<String> parentIterator = parentNode.fieldNames();
-            while (parentIterator.hasNext()) {
-                String fieldNameInParent = parentIterator.next();
-                if (!isInheritanceMechanismField(fieldNameInParent)) {
-                    inheritAndOverlayValuesFor(parentNode.get(fieldNameInParent));
-                    JsonNode parentFieldCopy = parentNode.get(fieldNameInParent).deepCopy();
-                    inheritAndOverlayChildValuesFromParent(object, fieldNameInParent, parentFieldCopy);
+            JsonNode parentNode = getNodeFromLibrary(parentIdField.asText());
+            Iterator<Entry<String, JsonNode>> parentFields = parentNode.fields();
+            while (parentFields.hasNext()) {
+                Entry<String, JsonNode> parentField = parentFields.next();
+                if (!isInheritanceMechanismField(parentField.getKey())) {
+                    inheritAndOverlayChildValuesFromParent(object, parentField.getKey(), parentField.getValue());
                 }
             }
         }
 
-        for (final JsonNode jsonNode : object)
-            inheritAndOverlayValuesFor(jsonNode);
-
         if (object instanceof ObjectNode)
             ((ObjectNode) object).set(INHERITANCE_APPLIED, BooleanNode.TRUE);
     }
 
     private void inheritAndOverlayChildValuesFromParent(final JsonNode object, final String fieldNameInParent,
-            final JsonNode parentFieldCopy) {
+            final JsonNode parentField) {
         if (object.has(fieldNameInParent)) {
             JsonNode thisField = object.get(fieldNameInParent);
             if (thisField.isArray()) {
-                ((ArrayNode) thisField).forEach(element -> {
-                    inheritAndOverlayValuesFor(element);
-                });
-                if (thisField.size() > 0 && REPLACE_ARRAY_CONTENT.equalsIgnoreCase(thisField.get(0).asText())) {
-                    ((ArrayNode) parentFieldCopy).removeAll();
-                    for (int e = 0; e < thisField.size(); e++) {
-                        ((ArrayNode) parentFieldCopy).add(thisField.get(e));
-                    }
-                } else {
-                    ((ArrayNode) parentFieldCopy).addAll((ArrayNode) thisField);
+                ArrayNode inheritedArray = ((ArrayNode) parentField).arrayNode();
+                if (!(thisField.size() > 0 && REPLACE_ARRAY_CONTENT.equalsIgnoreCase(thisField.get(0).asText()))) {
+                    inheritedArray.addAll((ArrayNode) parentField);
                 }
-                ((ObjectNode) object).set(fieldNameInParent, parentFieldCopy);
+                inheritedArray.addAll((ArrayNode) thisField);
+                ((ObjectNode) object).set(fieldNameInParent, inheritedArray);
             } else if (thisField.isContainerNode()) {
-                inheritAndOverlayValuesFor(thisField);
-                if (!(parentFieldCopy instanceof NullNode)) {
-                    overlayFieldWith(parentFieldCopy, thisField);
-                    ((ObjectNode) object).set(fieldNameInParent, parentFieldCopy);
+                if (!(parentField instanceof NullNode)) {
+                    ((ObjectNode) object).set(fieldNameInParent, overlayFieldWith(parentField, thisField));
                 }
             }
         } else {
-            ((ObjectNode) object).set(fieldNameInParent, parentFieldCopy);
+            ((ObjectNode) object).set(fieldNameInParent, parentField);
         }
     }
 
-    private boolean shouldApplyInheritanceOn(JsonNode object) {
-        if (object == null || !object.isContainerNode())
-            return false;
-        if (object.has(INHERITANCE_APPLIED))
-            return false;
-        return true;
-    }
-
-    private void throwExceptionIfParentNotFound(JsonNode object, JsonNode parentNode, String parentId) {
-        if (parentNode == null) {
-            String idPart = "an object without a " + idFieldName + " value specified";
-            if (object.has(idFieldName)) {
-                idPart = object.get(idFieldName).asText();
-            }
-            throw new ParentNotFoundException("Parent object with key " + parentId + " not found for " + idPart + ".");
-        }
-    }
-
-    private void overlayFieldWith(JsonNode overlaidField, JsonNode overlayingField) {
+    /**
+     * @return a copy of the overlaid field with the overlaying field applied on
+     *         it, sharing all the parts of both that are left as they are
+     */
+    private JsonNode overlayFieldWith(JsonNode overlaidField, JsonNode overlayingField) {
         if (overlayingField.isArray()) {
+            ArrayNode overlaidArray = (ArrayNode) overlaidField;
+            ArrayNode overlaidCopy = overlaidArray.arrayNode();
             if (overlayingField.size() > 0 && REPLACE_ARRAY_CONTENT.equalsIgnoreCase(overlayingField.get(0).asText())) {
-                ((ArrayNode) overlaidField).removeAll();
                 for (int e = 1; e < overlayingField.size(); e++) {
-                    ((ArrayNode) overlaidField).add(overlayingField.get(e));
+                    overlaidCopy.add(overlayingField.get(e));
                 }
-            } else
-                ((ArrayNode) overlaidField).addAll((ArrayNode) overlayingField);
-        } else {
-            Iterator<String> overlayingSubfields = overlayingField.fieldNames();
-            while (overlayingSubfields.hasNext()) {
-                String overlayingSubFieldName = overlayingSubfields.next();
-                if (!isInheritanceMechanismField(overlayingSubFieldName)) {
-                    JsonNode overlayingSubField = overlayingField.get(overlayingSubFieldName);
-                    JsonNode overlaidSubField = overlaidField.get(overlayingSubFieldName);
-                    if (overlaidSubField != null && overlaidSubField.isContainerNode()) {
-                        overlayFieldWith(overlaidSubField, overlayingSubField);
-                    } else if (overlaidField instanceof ObjectNode) {
-                        ((ObjectNode) overlaidField).set(overlayingSubFieldName, overlayingSubField);
-                    }
+            } else {
+                overlaidCopy.addAll(overlaidArray);
+                overlaidCopy.addAll((ArrayNode) overlayingField);
+            }
+            return overlaidCopy;
+        }
+        if (!(overlaidField instanceof ObjectNode)) {
+            return overlaidField;
+        }
+        ObjectNode overlaidCopy = ((ObjectNode) overlaidField).objectNode();
+        overlaidCopy.setAll((ObjectNode) overlaidField);
+        Iterator<Entry<String, JsonNode>> overlayingSubfields = overlayingField.fields();
+        while (overlayingSubfields.hasNext()) {
+            Entry<String, JsonNode> overlayingSubField = overlayingSubfields.next();
+            if (!isInheritanceMechanismField(overlayingSubField.getKey())) {
+                JsonNode overlaidSubField = overlaidField.get(overlayingSubField.getKey());
+                if (overlaidSubField != null && overlaidSubField.isContainerNode()) {
+                    overlaidCopy.set(overlayingSubField.getKey(),
+                            overlayFieldWith(overlaidSubField, overlayingSubField.getValue()));
+                } else {
+                    overlaidCopy.set(overlayingSubField.getKey(), overlayingSubField.getValue());
                 }
             }
         }
+        return overlaidCopy;
     }
 
     private boolean isInheritanceMechanismField(String fieldName) {
@@ -223,7 +346,25 @@ public abstract class JsonStoreWithInheritance {
                 || fieldName.equalsIgnoreCase(INHERITANCE_APPLIED);
     }
 
-    private void addToLibrary(JsonNode object) throws Exception {
+    /**
+     * Looks up an object in the library. Stores that materialise their objects
+     * on demand override this to add the object to the library on its first
+     * lookup.
+     */
+    protected JsonNode getNodeFromLibrary(String key) {
+        return nodeLibrary.get(key);
+    }
+
+    protected void addObjectStoreToLibrary() throws Exception {
+        addToLibrary(rootNode, null);
+    }
+
+    /**
+     * Adds the given object, and all objects nested in it, to the library.
+     * 
+     * @param keysAdded if not null, collects the library keys of all added objects
+     */
+    protected void addToLibrary(JsonNode object, Set<String> keysAdded) throws Exception {
         String keyFromIdField;
         if (shouldPlaceInLibrary(object)) {
             if (object.has(idFieldName)) {
@@ -232,13 +373,61 @@ public abstract class JsonStoreWithInheritance {
                 keyFromIdField = UUID.randomUUID().toString();
             }
             nodeLibrary.put(keyFromIdField, object);
+            if (keysAdded != null)
+                keysAdded.add(keyFromIdField);
         }
         Iterator<JsonNode> iterator = object.iterator();
         while (iterator.hasNext()) {
-            addToLibrary(iterator.next());
+            addToLibrary(iterator.next(), keysAdded);
         }
     }
 
+    /**
+     * Removes the objects with the given keys from the library of an already
+     * loaded store, together with any objects already converted for them.
+     */
+    protected void removeFromLibrary(Collection<String> keys) {
+        nodeLibrary.keySet().removeAll(keys);
+        evictConvertedObjects(keys);
+    }
+
+    protected void evictConvertedObjects(Collection<String> keys) {
+        for (Map<String, Object> objectLibrary : objectLibraryPerTypes.values())
+            objectLibrary.keySet().removeAll(keys);
+    }
+
+    /**
+     * Resolves objects added to an already loaded store in the same way the store
+     * was resolved on load: straight away if the whole store was resolved, or on
+     * their first lookup otherwise. The root node must already include the added
+     * objects.
+     */
+    protected void applyInheritanceOnAddedObjects(Collection<String> keys) {
+        if (!inheritanceAppliedOnAll)
+            return;
+        List<JsonNode> addedObjects = new ArrayList<>();
+        for (String key : keys) {
+            if (nodeLibrary.containsKey(key))
+                addedObjects.add(nodeLibrary.get(key));
+        }
+        // the store was cleared of the markers on load, so the parents of the added
+        // objects, and the objects nested in them, are resolved again along with them
+        for (JsonNode resolvedObject : applyInheritanceOn(addedObjects))
+            removeInheritanceMechanismFields(resolvedObject);
+    }
+
+    /**
+     * Discards everything loaded, so that the store is loaded from scratch on the
+     * next lookup.
+     */
+    protected synchronized void reset() {
+        rootNode = null;
+        nodeLibrary.clear();
+        objectLibraryPerTypes.clear();
+        processedGUIDs.clear();
+        inheritanceAppliedOnAll = false;
+    }
+
     private boolean shouldPlaceInLibrary(JsonNode object) {
         return object.has(idFieldName) || object.has(inheritanceFieldName);
     }
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.jsonstore;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies in power-of-two buckets of microseconds, which can be
+ * recorded into from any number of threads without locking. Bucket 0 counts
+ * latencies under a microsecond, and bucket n the ones from 2^(n-1) up to 2^n
+ * microseconds. Percentiles are reported as the upper bound of the bucket they
+ * fall in, capped at the maximum recorded latency.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos) / 1000;
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        counts.incrementAndGet(bucket);
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++)
+            count += counts.get(bucket);
+        return count;
+    }
+
+    public double getMeanMicros() {
+        long count = getCount();
+        return count == 0 ? 0 : totalNanos.sum() / 1000.0 / count;
+    }
+
+    public double getMaxMicros() {
+        return maxNanos.get() / 1000.0;
+    }
+
+    public double getP50Micros() {
+        return getPercentileMicros(50);
+    }
+
+    public double getP90Micros() {
+        return getPercentileMicros(90);
+    }
+
+    public double getP99Micros() {
+        return getPercentileMicros(99);
+    }
+
+    public double getPercentileMicros(double percentile) {
+        long count = getCount();
+        if (count == 0)
+            return 0;
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank)
+                return Math.min(1L << bucket, getMaxMicros());
+        }
+        return getMaxMicros();
+    }
+
+    /**
+     * @return the counts of the non-empty buckets, keyed by their upper bounds
+     */
+    public Map<String, Long> getBuckets() {
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long count = counts.get(bucket);
+            if (count > 0)
+                buckets.put("<" + (1L << bucket) + "us", count);
+        }
+        return buckets;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.1fus, p50=%.0fus, p90=%.0fus, p99=%.0fus, max=%.1fus", getCount(),
+                getMeanMicros(), getP50Micros(), getP90Micros(), getP99Micros(), getMaxMicros());
+    }
+}
@@ -3,8 +3,10 @@
  */
 package uk.gov.hmcts.befta;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mockStatic;
@@ -36,6 +38,7 @@ class BeftaMainTest {
     public static final String BEFTA_S2S_CLIENT_SECRET_VALUE = "BEFTA_S2S_CLIENT_SECRET_VALUE";
     public static final String TEST_DATA_LOAD_SKIP_PERIOD_KEY = "TEST_DATA_LOAD_SKIP_PERIOD";
     public static final String TEST_DATA_LOAD_SKIP_PERIOD_VALUE = "0";
+    public static final String BEFTA_SCENARIO_THREADS_KEY = "BEFTA_SCENARIO_THREADS";
     private MockedStatic<io.cucumber.core.cli.Main> mainrMock = null;
 
     @BeforeEach
@@ -147,6 +150,42 @@ class BeftaMainTest {
         assertNotNull(BeftaMain.getAdapter());
     }
 
+    /**
+     * Test method for
+     * {@link uk.gov.hmcts.befta.BeftaMain#withScenarioThreads(java.lang.String[])}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_SCENARIO_THREADS_KEY, value = "4")
+    void testWithScenarioThreadsAddsConfiguredThreads() {
+        BeftaMain.setConfig(TestAutomationConfig.INSTANCE);
+        String[] args = { "--glue", "uk.gov.hmcts.befta.player", "features" };
+        assertArrayEquals(new String[] { "--threads", "4", "--glue", "uk.gov.hmcts.befta.player", "features" },
+                BeftaMain.withScenarioThreads(args));
+    }
+
+    /**
+     * Test method for
+     * {@link uk.gov.hmcts.befta.BeftaMain#withScenarioThreads(java.lang.String[])}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_SCENARIO_THREADS_KEY, value = "4")
+    void testWithScenarioThreadsKeepsThreadsGivenInArguments() {
+        BeftaMain.setConfig(TestAutomationConfig.INSTANCE);
+        String[] args = { "--threads", "2", "features" };
+        assertSame(args, BeftaMain.withScenarioThreads(args));
+    }
+
+    /**
+     * Test method for
+     * {@link uk.gov.hmcts.befta.BeftaMain#withScenarioThreads(java.lang.String[])}.
+     */
+    @Test
+    void testWithScenarioThreadsRunsSeriallyByDefault() {
+        BeftaMain.setConfig(TestAutomationConfig.INSTANCE);
+        String[] args = { "features" };
+        assertSame(args, BeftaMain.withScenarioThreads(args));
+    }
+
     @Test
     @SetEnvironmentVariable(key = DEFINITION_STORE_HOST_KEY, value = DEFINITION_STORE_HOST_VALUE)
     @SetEnvironmentVariable(key = IDAM_URL_KEY, value = IDAM_URL_VALUE)
@@ -11,6 +11,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.AfterEach;
@@ -208,6 +210,58 @@ class DefaultTestAutomationAdapterTest {
         tad.authenticate(user, userTokenClientId);
     }
 
+    @Test
+    @SetEnvironmentVariable(key = DEFINITION_STORE_HOST_KEY, value = DEFINITION_STORE_HOST_VALUE)
+    @SetEnvironmentVariable(key = IDAM_URL_KEY, value = IDAM_URL_VALUE)
+    @SetEnvironmentVariable(key = BEFTA_S2S_CLIENT_ID_KEY, value = BEFTA_S2S_CLIENT_ID_VALUE)
+    @SetEnvironmentVariable(key = BEFTA_S2S_CLIENT_SECRET_KEY, value = BEFTA_S2S_CLIENT_SECRET_VALUE)
+    @SetEnvironmentVariable(key = S2S_URL_KEY, value = S2S_URL_VALUE)
+    @SetEnvironmentVariable(key = "OAUTH2_CLIENT_ID", value = "OAUTH2_CLIENT_ID_VALUE")
+    @SetEnvironmentVariable(key = "OAUTH2_CLIENT_SECRET", value = "OAUTH2_CLIENT_SECRET_VALUE")
+    @SetEnvironmentVariable(key = "OAUTH2_REDIRECT_URI", value = "OAUTH2_REDIRECT_URI_VALUE")
+    @SetEnvironmentVariable(key = "BEFTA_OAUTH2_REDIRECT_URI_OF_OTHER", value = "BEFTA_OAUTH2_REDIRECT_URI_OF_OTHER_VALUE")
+    @SetEnvironmentVariable(key = "BEFTA_OAUTH2_CLIENT_SECRET_OF_OTHER", value = "BEFTA_OAUTH2_CLIENT_SECRET_OF_OTHER_VALUE")
+    @SetEnvironmentVariable(key = "BEFTA_OAUTH2_SCOPE_VARIABLES_OF_OTHER", value = "BEFTA_OAUTH2_SCOPE_VARIABLES_OF_OTHER_VALUE")
+    @SetEnvironmentVariable(key = "BEFTA_OAUTH2_ACCESS_TOKEN_TYPE_OF_OTHER", value = "OIDC")
+    void testAuthenticateCallsIdamOncePerUser() throws Exception {
+        AuthApi idamApi = BeftaIdamApiClientFactory.createAuthorizationClient();
+        AuthApi.User idamUser = new ObjectMapper().readerFor(AuthApi.User.class).readValue("{\"id\" : \"idam-id\"}");
+        when(idamApi.getUser(null)).thenReturn(idamUser);
+        UserData otherUserDataOfSameUser = new UserData("user", "pwd");
+
+        tad.authenticate(new UserData("user", "pwd"), "OTHER");
+        tad.authenticate(otherUserDataOfSameUser, "OTHER");
+
+        assertEquals("idam-id", otherUserDataOfSameUser.getId());
+        verify(idamApi, times(1)).getUser(null);
+    }
+
+    @Test
+    @SetEnvironmentVariable(key = DEFINITION_STORE_HOST_KEY, value = DEFINITION_STORE_HOST_VALUE)
+    @SetEnvironmentVariable(key = IDAM_URL_KEY, value = IDAM_URL_VALUE)
+    @SetEnvironmentVariable(key = BEFTA_S2S_CLIENT_ID_KEY, value = BEFTA_S2S_CLIENT_ID_VALUE)
+    @SetEnvironmentVariable(key = BEFTA_S2S_CLIENT_SECRET_KEY, value = BEFTA_S2S_CLIENT_SECRET_VALUE)
+    @SetEnvironmentVariable(key = S2S_URL_KEY, value = S2S_URL_VALUE)
+    @SetEnvironmentVariable(key = "OAUTH2_CLIENT_ID", value = "OAUTH2_CLIENT_ID_VALUE")
+    @SetEnvironmentVariable(key = "OAUTH2_CLIENT_SECRET", value = "OAUTH2_CLIENT_SECRET_VALUE")
+    @SetEnvironmentVariable(key = "OAUTH2_REDIRECT_URI", value = "OAUTH2_REDIRECT_URI_VALUE")
+    @SetEnvironmentVariable(key = "BEFTA_OAUTH2_REDIRECT_URI_OF_OTHER", value = "BEFTA_OAUTH2_REDIRECT_URI_OF_OTHER_VALUE")
+    @SetEnvironmentVariable(key = "BEFTA_OAUTH2_CLIENT_SECRET_OF_OTHER", value = "BEFTA_OAUTH2_CLIENT_SECRET_OF_OTHER_VALUE")
+    @SetEnvironmentVariable(key = "BEFTA_OAUTH2_SCOPE_VARIABLES_OF_OTHER", value = "BEFTA_OAUTH2_SCOPE_VARIABLES_OF_OTHER_VALUE")
+    @SetEnvironmentVariable(key = "BEFTA_OAUTH2_ACCESS_TOKEN_TYPE_OF_OTHER", value = "OIDC")
+    void testAuthenticateDoesNotKeepFailedAuthentication() throws Exception {
+        AuthApi idamApi = BeftaIdamApiClientFactory.createAuthorizationClient();
+        AuthApi.User idamUser = new ObjectMapper().readerFor(AuthApi.User.class).readValue("{\"id\" : \"idam-id\"}");
+        when(idamApi.getUser(null)).thenThrow(new IllegalStateException("IDAM unavailable")).thenReturn(idamUser);
+        UserData user = new UserData("user", "pwd");
+
+        Assertions.assertThrows(IllegalStateException.class, () -> tad.authenticate(user, "OTHER"));
+        tad.authenticate(user, "OTHER");
+
+        assertEquals("idam-id", user.getId());
+        verify(idamApi, times(2)).getUser(null);
+    }
+
     /**
      * Test method for
      * {@link uk.gov.hmcts.befta.DefaultTestAutomationAdapter#loadTestDataIfNecessary()}.
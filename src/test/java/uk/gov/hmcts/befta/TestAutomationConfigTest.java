@@ -5,11 +5,21 @@ package uk.gov.hmcts.befta;
 
 import org.junit.jupiter.api.Test;
 import org.junitpioneer.jupiter.SetEnvironmentVariable;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import uk.gov.hmcts.befta.TestAutomationConfig.HttpTransportType;
 import uk.gov.hmcts.befta.TestAutomationConfig.ResponseHeaderCheckPolicy;
+import uk.gov.hmcts.befta.TestAutomationConfig.ScenarioLogLevel;
 import uk.gov.hmcts.befta.auth.UserTokenProviderConfig;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static uk.gov.hmcts.befta.data.CollectionVerificationConfig.Ordering;
 
 /**
@@ -36,6 +46,25 @@ class TestAutomationConfigTest {
     private static final String BEFTA_RESPONSE_HEADER_CHECK_POLICY = "BEFTA_RESPONSE_HEADER_CHECK_POLICY";
     private static final String BEFTA_RESPONSE_HEADER_CHECK_POLICY_VALUE = "JUST_WARN";
     private static final String DEFAULT_COLLECTION_ASSERTION_MODE = "DEFAULT_COLLECTION_ASSERTION_MODE";
+    private static final String BEFTA_TEST_DATA_PARSING_THREADS = "BEFTA_TEST_DATA_PARSING_THREADS";
+    private static final String BEFTA_TEST_DATA_LAZY_INHERITANCE = "BEFTA_TEST_DATA_LAZY_INHERITANCE";
+    private static final String BEFTA_TEST_DATA_OFFSET_INDEX = "BEFTA_TEST_DATA_OFFSET_INDEX";
+    private static final String BEFTA_TEST_DATA_SNAPSHOT_FILE = "BEFTA_TEST_DATA_SNAPSHOT_FILE";
+    private static final String BEFTA_TEST_DATA_SNAPSHOT_FILE_VALUE = "build/befta-test-data.snapshot";
+    private static final String BEFTA_TEST_DATA_WATCH_DIRECTORY = "BEFTA_TEST_DATA_WATCH_DIRECTORY";
+    private static final String BEFTA_SCENARIO_THREADS = "BEFTA_SCENARIO_THREADS";
+    private static final String BEFTA_PREREQUISITE_THREADS = "BEFTA_PREREQUISITE_THREADS";
+    private static final String BEFTA_HTTP_TRANSPORT = "BEFTA_HTTP_TRANSPORT";
+    private static final String BEFTA_HTTP_MAX_CONNECTIONS_PER_ROUTE = "BEFTA_HTTP_MAX_CONNECTIONS_PER_ROUTE";
+    private static final String BEFTA_HTTP_READ_TIMEOUT = "BEFTA_HTTP_READ_TIMEOUT";
+    private static final String BEFTA_SCENARIO_LOG_LEVEL = "BEFTA_SCENARIO_LOG_LEVEL";
+    private static final String BEFTA_SCENARIO_LOG_PAYLOAD_LIMIT = "BEFTA_SCENARIO_LOG_PAYLOAD_LIMIT";
+    private static final String BEFTA_LOAD_TEST_CALLS = "BEFTA_LOAD_TEST_CALLS";
+    private static final String BEFTA_LOAD_TEST_CONCURRENCY = "BEFTA_LOAD_TEST_CONCURRENCY";
+    private static final String BEFTA_LOAD_TEST_VERIFY_RESPONSES = "BEFTA_LOAD_TEST_VERIFY_RESPONSES";
+    private static final String BEFTA_CASE_POOL_DATA_IDS = "BEFTA_CASE_POOL_DATA_IDS";
+    private static final String BEFTA_TEST_DATA_METRICS_REPORT_FILE = "BEFTA_TEST_DATA_METRICS_REPORT_FILE";
+    private static final String BEFTA_TEST_DATA_METRICS_REPORT_FILE_VALUE = "target/befta-test-data-metrics.json";
 
     /**
      * Test method for {@link uk.gov.hmcts.befta.TestAutomationConfig#getTestUrl()}.
@@ -176,4 +205,275 @@ class TestAutomationConfigTest {
     void testDefaultCollectionAssertionModeReturnsValue() {
         assertEquals(Ordering.UNORDERED, TestAutomationConfig.INSTANCE.getDefaultCollectionAssertionMode());
     }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getTestDataParsingThreads()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_TEST_DATA_PARSING_THREADS, value = "8")
+    void testGetTestDataParsingThreads() {
+        assertEquals(8, TestAutomationConfig.INSTANCE.getTestDataParsingThreads());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getTestDataParsingThreads()}.
+     */
+    @Test
+    void testGetTestDataParsingThreadsReturnsDefaultWhenNotSet() {
+        assertEquals(1, TestAutomationConfig.INSTANCE.getTestDataParsingThreads());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#isTestDataLazyInheritanceEnabled()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_TEST_DATA_LAZY_INHERITANCE, value = "true")
+    void testIsTestDataLazyInheritanceEnabled() {
+        assertTrue(TestAutomationConfig.INSTANCE.isTestDataLazyInheritanceEnabled());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#isTestDataLazyInheritanceEnabled()}.
+     */
+    @Test
+    void testIsTestDataLazyInheritanceEnabledReturnsFalseWhenNotSet() {
+        assertFalse(TestAutomationConfig.INSTANCE.isTestDataLazyInheritanceEnabled());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#isTestDataOffsetIndexEnabled()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_TEST_DATA_OFFSET_INDEX, value = "true")
+    void testIsTestDataOffsetIndexEnabled() {
+        assertTrue(TestAutomationConfig.INSTANCE.isTestDataOffsetIndexEnabled());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#isTestDataOffsetIndexEnabled()}.
+     */
+    @Test
+    void testIsTestDataOffsetIndexEnabledReturnsFalseWhenNotSet() {
+        assertFalse(TestAutomationConfig.INSTANCE.isTestDataOffsetIndexEnabled());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getScenarioThreads()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_SCENARIO_THREADS, value = "6")
+    void testGetScenarioThreads() {
+        assertEquals(6, TestAutomationConfig.INSTANCE.getScenarioThreads());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getScenarioThreads()}.
+     */
+    @Test
+    void testGetScenarioThreadsReturnsDefaultWhenNotSet() {
+        assertEquals(1, TestAutomationConfig.INSTANCE.getScenarioThreads());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getPrerequisiteThreads()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_PREREQUISITE_THREADS, value = "4")
+    void testGetPrerequisiteThreads() {
+        assertEquals(4, TestAutomationConfig.INSTANCE.getPrerequisiteThreads());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getPrerequisiteThreads()}.
+     */
+    @Test
+    void testGetPrerequisiteThreadsReturnsDefaultWhenNotSet() {
+        assertEquals(1, TestAutomationConfig.INSTANCE.getPrerequisiteThreads());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getHttpTransport()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_HTTP_TRANSPORT, value = "ASYNC")
+    void testGetHttpTransport() {
+        assertEquals(HttpTransportType.ASYNC, TestAutomationConfig.INSTANCE.getHttpTransport());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getHttpTransport()}.
+     */
+    @Test
+    void testGetHttpTransportReturnsRestAssuredWhenNotSet() {
+        assertEquals(HttpTransportType.RESTASSURED, TestAutomationConfig.INSTANCE.getHttpTransport());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getHttpMaxConnectionsPerRoute()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_HTTP_MAX_CONNECTIONS_PER_ROUTE, value = "50")
+    void testGetHttpMaxConnectionsPerRoute() {
+        assertEquals(50, TestAutomationConfig.INSTANCE.getHttpMaxConnectionsPerRoute());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getHttpMaxConnectionsTotal()}.
+     */
+    @Test
+    void testGetHttpMaxConnectionsTotalReturnsDefaultWhenNotSet() {
+        assertEquals(200, TestAutomationConfig.INSTANCE.getHttpMaxConnectionsTotal());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getHttpReadTimeout()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_HTTP_READ_TIMEOUT, value = "30000")
+    void testGetHttpReadTimeout() {
+        assertEquals(30000, TestAutomationConfig.INSTANCE.getHttpReadTimeout());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getHttpConnectTimeout()}.
+     */
+    @Test
+    void testGetHttpConnectTimeoutReturnsNoTimeoutWhenNotSet() {
+        assertEquals(0, TestAutomationConfig.INSTANCE.getHttpConnectTimeout());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getScenarioLogLevel()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_SCENARIO_LOG_LEVEL, value = "ON_FAILURE")
+    void testGetScenarioLogLevel() {
+        assertEquals(ScenarioLogLevel.ON_FAILURE, TestAutomationConfig.INSTANCE.getScenarioLogLevel());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getScenarioLogLevel()}.
+     */
+    @Test
+    void testGetScenarioLogLevelReturnsFullWhenNotSet() {
+        assertEquals(ScenarioLogLevel.FULL, TestAutomationConfig.INSTANCE.getScenarioLogLevel());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getScenarioLogPayloadLimit()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_SCENARIO_LOG_PAYLOAD_LIMIT, value = "10000")
+    void testGetScenarioLogPayloadLimit() {
+        assertEquals(10000, TestAutomationConfig.INSTANCE.getScenarioLogPayloadLimit());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getLoadTestCalls()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_LOAD_TEST_CALLS, value = "S-101_Get_Case:3, S-102_Search_Cases")
+    void testGetLoadTestCalls() {
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        expected.put("S-101_Get_Case", 3);
+        expected.put("S-102_Search_Cases", 1);
+        assertEquals(expected, TestAutomationConfig.INSTANCE.getLoadTestCalls());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getLoadTestCalls()}.
+     */
+    @Test
+    void testGetLoadTestCallsReturnsEmptyMapWhenNotSet() {
+        assertTrue(TestAutomationConfig.INSTANCE.getLoadTestCalls().isEmpty());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getLoadTestConcurrency()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_LOAD_TEST_CONCURRENCY, value = "16")
+    void testGetLoadTestConcurrency() {
+        assertEquals(16, TestAutomationConfig.INSTANCE.getLoadTestConcurrency());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getLoadTestDuration()}.
+     */
+    @Test
+    void testGetLoadTestDurationReturnsAMinuteWhenNotSet() {
+        assertEquals(60, TestAutomationConfig.INSTANCE.getLoadTestDuration());
+    }
+
+    /**
+     * Test method for
+     * {@link TestAutomationConfig#isLoadTestResponseVerificationEnabled()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_LOAD_TEST_VERIFY_RESPONSES, value = "true")
+    void testIsLoadTestResponseVerificationEnabled() {
+        assertTrue(TestAutomationConfig.INSTANCE.isLoadTestResponseVerificationEnabled());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getCasePoolDataIds()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_CASE_POOL_DATA_IDS, value = "S-101_Case_Creation, S-102_Case_Creation")
+    void testGetCasePoolDataIds() {
+        assertEquals(Arrays.asList("S-101_Case_Creation", "S-102_Case_Creation"),
+                TestAutomationConfig.INSTANCE.getCasePoolDataIds());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getCasePoolSize()}.
+     */
+    @Test
+    void testGetCasePoolSizeReturnsTwoWhenNotSet() {
+        assertEquals(2, TestAutomationConfig.INSTANCE.getCasePoolSize());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getTestDataSnapshotFile()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_TEST_DATA_SNAPSHOT_FILE, value = BEFTA_TEST_DATA_SNAPSHOT_FILE_VALUE)
+    void testGetTestDataSnapshotFile() {
+        assertEquals(BEFTA_TEST_DATA_SNAPSHOT_FILE_VALUE, TestAutomationConfig.INSTANCE.getTestDataSnapshotFile());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getTestDataSnapshotFile()}.
+     */
+    @Test
+    void testGetTestDataSnapshotFileReturnsNullWhenNotSet() {
+        assertNull(TestAutomationConfig.INSTANCE.getTestDataSnapshotFile());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getTestDataWatchDirectory()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_TEST_DATA_WATCH_DIRECTORY, value = "src/test/resources/features")
+    void testGetTestDataWatchDirectory() {
+        assertEquals("src/test/resources/features", TestAutomationConfig.INSTANCE.getTestDataWatchDirectory());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getTestDataMetricsReportFile()}.
+     */
+    @Test
+    @SetEnvironmentVariable(key = BEFTA_TEST_DATA_METRICS_REPORT_FILE, value = BEFTA_TEST_DATA_METRICS_REPORT_FILE_VALUE)
+    void testGetTestDataMetricsReportFile() {
+        assertEquals(BEFTA_TEST_DATA_METRICS_REPORT_FILE_VALUE,
+                TestAutomationConfig.INSTANCE.getTestDataMetricsReportFile());
+    }
+
+    /**
+     * Test method for {@link TestAutomationConfig#getTestDataMetricsReportFile()}.
+     */
+    @Test
+    void testGetTestDataMetricsReportFileReturnsNullWhenNotSet() {
+        assertNull(TestAutomationConfig.INSTANCE.getTestDataMetricsReportFile());
+    }
 }
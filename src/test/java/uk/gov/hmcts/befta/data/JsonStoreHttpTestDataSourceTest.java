@@ -1,6 +1,11 @@
 package uk.gov.hmcts.befta.data;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.common.CommonAssertions.applyCommonAssertionsOnBasicData;
 import static uk.gov.hmcts.common.CommonAssertions.applyCommonAssertionsOnExtendedData;
 import static uk.gov.hmcts.common.CommonAssertions.applyCommonAssertionsOnOverriddenData;
@@ -8,6 +13,19 @@ import static uk.gov.hmcts.common.CommonAssertions.applyCommonAssertionsOnOverri
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import com.google.common.reflect.ClassPath;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import uk.gov.hmcts.befta.BeftaMain;
+import uk.gov.hmcts.befta.TestAutomationConfig;
 
 public class JsonStoreHttpTestDataSourceTest {
 
@@ -53,5 +71,71 @@ public class JsonStoreHttpTestDataSourceTest {
 
         assertNull(result);
     }
-}
 
+    @Test
+    public void shouldLocateResourcesThroughIndexWhenPresent() {
+        try (MockedStatic<ClassPath> classPathMock = Mockito.mockStatic(ClassPath.class)) {
+            dataSource = new JsonStoreHttpTestDataSource(new String[] { "framework-test-data/inheritance-test-data" },
+                    "framework-test-data-index/test-data.index");
+
+            classPathMock.verify(never(), () -> ClassPath.from(any()));
+        }
+        applyCommonAssertionsOnExtendedData(dataSource.getDataForTestCall("Simple-Data-With-Inheritance"));
+    }
+
+    @Test
+    public void shouldNotScanTheClasspathForResourcesIndexedInTheirDirectory() throws Exception {
+        File directory = Files.createTempDirectory("befta-test-data-index").toFile();
+        writeFile(directory, "indexed-test-data/Indexed-Data.td.json", "{\"_guid_\": \"Indexed-Data\"}");
+        writeFile(directory, TestDataResourceIndex.INDEX_RESOURCE,
+                "26\ta7e753149b8ca3105b98695b17fca5b3a440db26ab2f5a2e1e185b4dbe7b19e8\t"
+                        + "indexed-test-data/Indexed-Data.td.json\n");
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try (URLClassLoader directoryClassLoader = new URLClassLoader(new URL[] { directory.toURI().toURL() },
+                contextClassLoader); MockedStatic<ClassPath> classPathMock = Mockito.mockStatic(ClassPath.class)) {
+            thread.setContextClassLoader(directoryClassLoader);
+
+            dataSource = new JsonStoreHttpTestDataSource(new String[] { "indexed-test-data" });
+
+            classPathMock.verify(never(), () -> ClassPath.from(any()));
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    public void shouldReloadTestDataChangedInTheWatchedDirectory() throws Exception {
+        File directory = Files.createTempDirectory("befta-watched-test-data").toFile();
+        File source = new File(ClassLoader.getSystemResource("framework-test-data/inheritance-test-data").getFile());
+        for (File file : source.listFiles()) {
+            Files.copy(file.toPath(), new File(directory, file.getName()).toPath());
+        }
+        TestAutomationConfig config = mock(TestAutomationConfig.class);
+        when(config.getTestDataWatchDirectory()).thenReturn(directory.getPath());
+        try (MockedStatic<BeftaMain> beftaMain = Mockito.mockStatic(BeftaMain.class)) {
+            beftaMain.when(BeftaMain::getConfig).thenReturn(config);
+            dataSource = new JsonStoreHttpTestDataSource(new String[] { "no-test-data-on-the-classpath" });
+            applyCommonAssertionsOnExtendedData(dataSource.getDataForTestCall("Simple-Data-With-Inheritance"));
+
+            File baseFile = new File(directory, "Simple-Data-Without-Inheritance.td.json");
+            String content = new String(Files.readAllBytes(baseFile.toPath()), StandardCharsets.UTF_8);
+            Files.write(baseFile.toPath(),
+                    content.replace("\"TITLE\"", "\"WATCHED TITLE\"").getBytes(StandardCharsets.UTF_8));
+
+            long deadline = System.currentTimeMillis() + 30000;
+            String title = null;
+            while (!"WATCHED TITLE".equals(title) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+                title = dataSource.getDataForTestCall("Simple-Data-With-Inheritance").getTitle();
+            }
+            assertEquals("WATCHED TITLE", title);
+        }
+    }
+
+    private void writeFile(File directory, String path, String content) throws Exception {
+        File file = new File(directory, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
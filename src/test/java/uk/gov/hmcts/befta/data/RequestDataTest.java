@@ -5,10 +5,12 @@ package uk.gov.hmcts.befta.data;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.HashMap;
 
 
@@ -50,6 +52,20 @@ class RequestDataTest {
 		assertEquals(other,actual);
 	}
 
+	/**
+	 * Test method for {@link uk.gov.hmcts.befta.data.RequestData#RequestData(RequestData)}.
+	 */
+	@Test
+	void testCopySharesBodyAndCopiesHeaders() {
+		RequestData actual = new RequestData();
+		actual.setHeaders(new HashMap<>(Collections.singletonMap("header1", "header value 1")));
+		actual.setBody(new HashMap<>(Collections.singletonMap("field1", "value 1")));
+		RequestData other = new RequestData(actual);
+		other.getHeaders().put("header1", "changed");
+		assertEquals("header value 1", actual.getHeaders().get("header1"));
+		assertSame(actual.getBody(), other.getBody());
+	}
+
 	/**
 	 * Test method for {@link uk.gov.hmcts.befta.data.RequestData#toString()}.
 	 */
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.befta.data;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class ResponseTimingsTest {
+
+    @Test
+    public void shouldKeepTheResponseTimeInNanosecondsFinerThanInMilliseconds() {
+        ResponseTimings timings = new ResponseTimings();
+
+        timings.recordSendTime(1_999_999);
+        timings.recordBodyReadTime(1_999_999);
+
+        assertEquals(1, timings.getSendTime());
+        assertEquals(1, timings.getBodyReadTime());
+        assertEquals(2, timings.getResponseTime());
+        assertEquals(3_999_998, timings.getResponseNanos());
+        assertEquals(3_999_998, new ResponseTimings(timings).getResponseNanos());
+    }
+}
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.befta.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import uk.gov.hmcts.jsonstore.JsonStoreMetrics;
+
+public class TestDataMetricsReportTest {
+
+    @Test
+    public void shouldWriteMetricsOfRegisteredStoresToReportFile() throws Exception {
+        JsonStoreMetrics metrics = new JsonStoreMetrics();
+        metrics.getLookupLatency().record(2_500);
+        TestDataMetricsReport.register("metrics-report-test", () -> metrics);
+        File directory = Files.createTempDirectory("befta-test-data-metrics").toFile();
+        File reportFile = new File(directory, "reports/test-data-metrics.json");
+
+        TestDataMetricsReport.export(reportFile.getPath());
+
+        assertSame(metrics, TestDataMetricsReport.collect().get("metrics-report-test"));
+        JsonNode report = new ObjectMapper().readTree(reportFile);
+        JsonNode storeReport = report.get("metrics-report-test");
+        assertTrue(storeReport.has("resourceCount"));
+        assertTrue(storeReport.has("inheritanceResolutionMillis"));
+        assertTrue(storeReport.has("retainedSizeEstimateBytes"));
+        assertEquals(1, storeReport.get("lookupLatency").get("count").asInt());
+        assertEquals(1, storeReport.get("lookupLatency").get("buckets").get("<4us").asInt());
+    }
+}
@@ -0,0 +1,66 @@
+package uk.gov.hmcts.befta.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.Resources;
+
+import java.util.List;
+
+public class TestDataResourceIndexTest {
+
+    private static final String INDEX_RESOURCE = "framework-test-data-index/test-data.index";
+    private static final String INDEXED_PACKAGE = "framework-test-data/inheritance-test-data";
+    private static final String INDEXED_RESOURCE = INDEXED_PACKAGE + "/Simple-Data-With-Inheritance.td.json";
+
+    private final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+    @Test
+    public void shouldFindIndexedResourcesInPackage() throws Exception {
+        TestDataResourceIndex index = TestDataResourceIndex.load(classLoader, INDEX_RESOURCE);
+
+        List<TestDataResourceIndex.Entry> entries = index.findEntriesIn(INDEXED_PACKAGE, classLoader);
+
+        assertFalse(index.isEmpty());
+        assertEquals(3, entries.size());
+        assertEquals(INDEXED_RESOURCE, entries.get(0).getResourceName());
+        assertEquals(623, entries.get(0).getSize());
+        assertEquals("6602710963c47cfc50bbcfb544c4a284f80bb6ed8326b92d2c021157b49e4375",
+                entries.get(0).getContentHash());
+    }
+
+    @Test
+    public void shouldIndexTheActualSizeAndHashOfEachResource() throws Exception {
+        TestDataResourceIndex index = TestDataResourceIndex.load(classLoader, INDEX_RESOURCE);
+
+        List<TestDataResourceIndex.Entry> entries = index.findEntriesIn("framework-test-data", classLoader);
+
+        assertFalse(entries.isEmpty());
+        for (TestDataResourceIndex.Entry entry : entries) {
+            byte[] content = Resources.toByteArray(classLoader.getResource(entry.getResourceName()));
+            assertEquals(entry.getResourceName(), content.length, entry.getSize());
+            assertEquals(entry.getResourceName(), Hashing.sha256().hashBytes(content).toString(),
+                    entry.getContentHash());
+        }
+    }
+
+    @Test
+    public void shouldNotFindResourcesInPackageOfNonIndexedClasspathRoot() throws Exception {
+        TestDataResourceIndex index = TestDataResourceIndex.load(classLoader, INDEX_RESOURCE);
+
+        assertNull(index.findEntriesIn("features/common", classLoader));
+    }
+
+    @Test
+    public void shouldNotFindResourcesWhenThereIsNoIndex() throws Exception {
+        TestDataResourceIndex index = TestDataResourceIndex.load(classLoader, "no-such-index/test-data.index");
+
+        assertTrue(index.isEmpty());
+        assertNull(index.findEntriesIn(INDEXED_PACKAGE, classLoader));
+    }
+}
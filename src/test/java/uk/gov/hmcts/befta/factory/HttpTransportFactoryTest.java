@@ -0,0 +1,71 @@
+package uk.gov.hmcts.befta.factory;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import uk.gov.hmcts.befta.TestAutomationConfig.HttpTransportType;
+import uk.gov.hmcts.befta.http.AsyncHttpTransport;
+import uk.gov.hmcts.befta.http.HttpTransport;
+
+class HttpTransportFactoryTest {
+
+    @AfterEach
+    void closeHttpTransports() {
+        HttpTransportFactory.closeHttpTransports();
+    }
+
+    /**
+     * Test method for {@link HttpTransportFactory#getHttpTransport(HttpTransportType)}.
+     */
+    @Test
+    void testGetHttpTransportForRestAssured() {
+        assertNull(HttpTransportFactory.getHttpTransport(HttpTransportType.RESTASSURED));
+    }
+
+    /**
+     * Test method for {@link HttpTransportFactory#getHttpTransport(HttpTransportType)}.
+     */
+    @Test
+    void testGetHttpTransportSharesTransportUntilClosed() {
+        HttpTransport transport = HttpTransportFactory.getHttpTransport(HttpTransportType.ASYNC);
+        MatcherAssert.assertThat(transport, IsInstanceOf.instanceOf(AsyncHttpTransport.class));
+        assertSame(transport, HttpTransportFactory.getHttpTransport(HttpTransportType.ASYNC));
+
+        HttpTransportFactory.closeHttpTransports();
+        assertNotSame(transport, HttpTransportFactory.getHttpTransport(HttpTransportType.ASYNC));
+    }
+
+    /**
+     * Test method for {@link HttpTransportFactory#getHttpTransport(HttpTransportType)}.
+     */
+    @Test
+    void testGetHttpTransportCreatesOneTransportForConcurrentCallers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<HttpTransport>> callers = IntStream.range(0, 64)
+                    .mapToObj(i -> (Callable<HttpTransport>) () -> HttpTransportFactory
+                            .getHttpTransport(HttpTransportType.ASYNC))
+                    .collect(Collectors.toList());
+            List<Future<HttpTransport>> received = executor.invokeAll(callers);
+            for (Future<HttpTransport> transport : received) {
+                assertSame(received.get(0).get(), transport.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import uk.gov.hmcts.befta.exception.JsonStoreCreationException;
 import uk.gov.hmcts.jsonstore.JsonFileStoreWithInheritance;
+import uk.gov.hmcts.jsonstore.JsonIndexedResourceStoreWithInheritance;
 import uk.gov.hmcts.jsonstore.JsonResourceStoreWithInheritance;
 import uk.gov.hmcts.jsonstore.JsonStoreWithInheritance;
 
@@ -101,4 +102,20 @@ public class JsonStoreFactoryTest {
 				EXTENDS);
 		MatcherAssert.assertThat(actual, IsInstanceOf.instanceOf(JsonResourceStoreWithInheritance.class));
 	}
+
+	@Test
+	public void testCreateJsonStoreIndexedResource() {
+		String[] resourcePaths = { FILE_WITH_INHERITANCE };
+		JsonStoreWithInheritance actual = JsonStoreFactory.createJsonStoreWithInheritance(
+				JsonStoreFactory.INDEXED_RESOURCE_STR, resourcePaths);
+		MatcherAssert.assertThat(actual, IsInstanceOf.instanceOf(JsonIndexedResourceStoreWithInheritance.class));
+	}
+
+	@Test
+	public void testCreateJsonStoreIndexedResourceWithParam() {
+		String[] resourcePaths = { FILE_WITH_INHERITANCE };
+		JsonStoreWithInheritance actual = JsonStoreFactory.createJsonStoreWithInheritance(
+				JsonStoreFactory.INDEXED_RESOURCE_STR, resourcePaths, GUID, EXTENDS);
+		MatcherAssert.assertThat(actual, IsInstanceOf.instanceOf(JsonIndexedResourceStoreWithInheritance.class));
+	}
 }
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.befta.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import uk.gov.hmcts.befta.TestAutomationConfig;
+
+public class AsyncHttpTransportTest {
+
+    private HttpServer server;
+    private AsyncHttpTransport transport;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/echo", exchange -> {
+            byte[] requestBody = readFully(exchange.getRequestBody());
+            String query = exchange.getRequestURI().getRawQuery();
+            String response = "{\"method\":\"" + exchange.getRequestMethod() + "\",\"query\":\"" + query
+                    + "\",\"header\":\"" + exchange.getRequestHeaders().getFirst("X-Test")
+                    + "\",\"body\":" + new String(requestBody, StandardCharsets.UTF_8) + "}";
+            sendJson(exchange, 201, response);
+        });
+        CountDownLatch allArrived = new CountDownLatch(10);
+        server.createContext("/slow", exchange -> {
+            allArrived.countDown();
+            try {
+                allArrived.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sendJson(exchange, 200, "{}");
+        });
+        server.start();
+        transport = new AsyncHttpTransport(TestAutomationConfig.INSTANCE);
+    }
+
+    @AfterEach
+    public void stopServer() {
+        transport.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldSendRequestAndReceiveResponse() throws Exception {
+        HttpTransportRequest request = new HttpTransportRequest();
+        request.setMethod("post");
+        request.setUri(URI.create(baseUri() + "/echo?name=value"));
+        request.getHeaders().put("X-Test", "header value");
+        request.getHeaders().put("Content-Type", "application/json");
+        request.setBody("{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8));
+
+        HttpTransportResponse response = transport.send(request).get(5, TimeUnit.SECONDS);
+
+        assertEquals(201, response.getStatusCode());
+        assertNotNull(response.getTimeToFirstByte());
+        assertEquals("application/json", response.getContentType());
+        assertEquals("application/json", response.getHeaders().get("Content-type"));
+        assertEquals("{\"method\":\"POST\",\"query\":\"name=value\",\"header\":\"header value\","
+                + "\"body\":{\"key\":\"value\"}}", response.getBodyAsString());
+        assertEquals(response.getBodyAsString(),
+                new String(readFully(response.getBodyAsInputStream()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldKeepRequestsInFlightConcurrently() throws Exception {
+        List<CompletableFuture<HttpTransportResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            HttpTransportRequest request = new HttpTransportRequest();
+            request.setMethod("GET");
+            request.setUri(URI.create(baseUri() + "/slow"));
+            responses.add(transport.send(request));
+        }
+
+        // the server only responds once all the requests have arrived
+        for (CompletableFuture<HttpTransportResponse> response : responses) {
+            assertEquals(200, response.get(5, TimeUnit.SECONDS).getStatusCode());
+        }
+        assertEquals(200, transport.getConnectionPoolMetrics().getMax());
+    }
+
+    private String baseUri() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private static void sendJson(com.sun.net.httpserver.HttpExchange exchange, int status, String json)
+            throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1)
+            out.write(buffer, 0, read);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,67 @@
+package uk.gov.hmcts.befta.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.response.Response;
+import uk.gov.hmcts.befta.TestAutomationConfig;
+
+public class RestAssuredConnectionPoolTest {
+
+    private HttpServer server;
+    private RestAssuredConfig originalConfig;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ping", exchange -> {
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        originalConfig = RestAssured.config;
+        RestAssuredConnectionPool.shutdown();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        RestAssuredConnectionPool.shutdown();
+        RestAssured.config = originalConfig;
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldKeepConnectionAliveAcrossCalls() {
+        assertNull(RestAssuredConnectionPool.getMetrics());
+        RestAssuredConnectionPool.configureRestAssured(TestAutomationConfig.INSTANCE);
+
+        String uri = "http://127.0.0.1:" + server.getAddress().getPort() + "/ping";
+        for (int i = 0; i < 3; i++) {
+            Response response = RestAssured.given().get(uri);
+            assertEquals(200, response.getStatusCode());
+            assertEquals("{}", response.getBody().asString());
+        }
+
+        ConnectionPoolMetrics metrics = RestAssuredConnectionPool.getMetrics();
+        assertEquals(0, metrics.getLeased());
+        assertEquals(1, metrics.getAvailable());
+        assertEquals(200, metrics.getMax());
+    }
+}
@@ -0,0 +1,36 @@
+package uk.gov.hmcts.befta.load;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class CallLatencyTest {
+
+    @Test
+    public void shouldReportPercentilesWithinAThousandthOfTheRecordedLatencies() {
+        CallLatency latency = new CallLatency();
+        for (int i = 0; i < 90; i++)
+            latency.record(1_234_567);
+        for (int i = 0; i < 9; i++)
+            latency.record(1_500_000);
+        latency.record(250_000_000);
+
+        assertEquals(100, latency.getCount());
+        assertEquals(1234.567, latency.getP50Micros(), 1.235);
+        assertEquals(1234.567, latency.getP90Micros(), 1.235);
+        assertEquals(1500.0, latency.getP99Micros(), 1.5);
+        assertEquals(250_000.0, latency.getP999Micros(), 250);
+        assertEquals(250_000.0, latency.getMaxMicros(), 250);
+        assertEquals(3746.1, latency.getMeanMicros(), 3.75);
+    }
+
+    @Test
+    public void shouldReportZerosWhenEmpty() {
+        CallLatency latency = new CallLatency();
+
+        assertEquals(0, latency.getCount());
+        assertEquals(0.0, latency.getMeanMicros(), 0);
+        assertEquals(0.0, latency.getP99Micros(), 0);
+        assertEquals(0.0, latency.getMaxMicros(), 0);
+    }
+}
@@ -0,0 +1,175 @@
+package uk.gov.hmcts.befta.load;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import uk.gov.hmcts.befta.exception.FunctionalTestException;
+
+public class LoadTestRunnerTest {
+
+    @Test
+    public void shouldReplayCallsInProportionToTheirWeights() {
+        Map<String, Integer> calls = new LinkedHashMap<>();
+        calls.put("S-101", 3);
+        calls.put("S-102", 1);
+        LoadTestRunner runner = new LoadTestRunner(calls, 2, 300, 0);
+
+        LoadTestReport report = runner.run(() -> testDataId -> {
+            TimeUnit.MILLISECONDS.sleep(1);
+            return TimeUnit.MILLISECONDS.toNanos(1);
+        });
+
+        CallStatistics heavier = report.getCalls().get("S-101");
+        CallStatistics lighter = report.getCalls().get("S-102");
+        assertTrue(heavier.getSuccesses() > lighter.getSuccesses());
+        assertEquals(heavier.getSuccesses(), heavier.getLatency().getCount());
+        assertEquals(0, heavier.getFailures());
+        assertTrue(heavier.getThroughput() > 0);
+        assertTrue(report.getElapsedSeconds() >= 0.3);
+    }
+
+    @Test
+    public void shouldRunACallerOnEachConcurrentThread() {
+        Set<Object> callers = ConcurrentHashMap.newKeySet();
+        LoadTestRunner runner = new LoadTestRunner(Collections.singletonMap("S-101", 1), 4, 200, 100);
+
+        runner.run(() -> {
+            Object caller = new Object();
+            callers.add(caller);
+            return testDataId -> {
+                TimeUnit.MILLISECONDS.sleep(5);
+                return 0;
+            };
+        });
+
+        assertEquals(4, callers.size());
+    }
+
+    @Test
+    public void shouldCountFailedCallsWithoutTheirLatency() {
+        LoadTestRunner runner = new LoadTestRunner(Collections.singletonMap("S-101", 1), 1, 50, 0);
+
+        LoadTestReport report = runner.run(() -> testDataId -> {
+            TimeUnit.MILLISECONDS.sleep(5);
+            throw new AssertionError("Response code mismatch");
+        });
+
+        CallStatistics statistics = report.getCalls().get("S-101");
+        assertTrue(statistics.getFailures() > 0);
+        assertEquals(0, statistics.getSuccesses());
+        assertEquals(0, statistics.getLatency().getCount());
+    }
+
+    @Test
+    public void shouldKeepTheConcurrentCallsInFlightOnFewerThreads() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ScheduledExecutorService responder = Executors.newSingleThreadScheduledExecutor();
+        LoadTestRunner runner = new LoadTestRunner(Collections.singletonMap("S-101", 1), 20, 300, 0);
+
+        try {
+            LoadTestReport report = runner.runAsynchronously(() -> testDataId -> {
+                threads.add(Thread.currentThread().getName());
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                CompletableFuture<Long> call = new CompletableFuture<>();
+                responder.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    call.complete(TimeUnit.MILLISECONDS.toNanos(10));
+                }, 10, TimeUnit.MILLISECONDS);
+                return call;
+            }, 2);
+
+            CallStatistics statistics = report.getCalls().get("S-101");
+            assertEquals(20, maxInFlight.get());
+            assertTrue(threads.size() <= 2);
+            assertTrue(statistics.getSuccesses() >= 20);
+            assertEquals(statistics.getSuccesses(), statistics.getLatency().getCount());
+            assertEquals(0, statistics.getFailures());
+        } finally {
+            responder.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldCountFailedAsynchronousCalls() {
+        LoadTestRunner runner = new LoadTestRunner(Collections.singletonMap("S-101", 1), 2, 50, 0);
+
+        LoadTestReport report = runner.runAsynchronously(() -> testDataId -> {
+            TimeUnit.MILLISECONDS.sleep(5);
+            CompletableFuture<Long> call = new CompletableFuture<>();
+            call.completeExceptionally(new AssertionError("Response code mismatch"));
+            return call;
+        }, 1);
+
+        CallStatistics statistics = report.getCalls().get("S-101");
+        assertTrue(statistics.getFailures() > 0);
+        assertEquals(0, statistics.getSuccesses());
+    }
+
+    @Test
+    public void shouldCountAsynchronousCallsStillInFlightAfterTheGracePeriodAsFailures() {
+        LoadTestRunner runner = new LoadTestRunner(Collections.singletonMap("S-101", 1), 2, 100, 0, 100);
+
+        LoadTestReport report = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> runner.runAsynchronously(() -> testDataId -> new CompletableFuture<>(), 1));
+
+        CallStatistics statistics = report.getCalls().get("S-101");
+        assertEquals(2, statistics.getFailures());
+        assertEquals(0, statistics.getSuccesses());
+    }
+
+    @Test
+    public void shouldCountAsynchronousCallsNotStartedAsFailures() {
+        LoadTestRunner runner = new LoadTestRunner(Collections.singletonMap("S-101", 1), 1, 50, 0, 100);
+
+        LoadTestReport report = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> runner.runAsynchronously(() -> testDataId -> {
+                    TimeUnit.MILLISECONDS.sleep(5);
+                    return null;
+                }, 1));
+
+        CallStatistics statistics = report.getCalls().get("S-101");
+        assertTrue(statistics.getFailures() > 0);
+        assertEquals(0, statistics.getSuccesses());
+    }
+
+    @Test
+    public void shouldFailTheLoadTestWhenACallCompletesWithoutALatency() {
+        LoadTestRunner runner = new LoadTestRunner(Collections.singletonMap("S-101", 1), 1, 1000, 0);
+
+        FunctionalTestException thrown = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> Assertions.assertThrows(FunctionalTestException.class, () -> runner
+                        .runAsynchronously(() -> testDataId -> CompletableFuture.completedFuture(null), 1)));
+
+        assertEquals("Load test failed.", thrown.getMessage());
+        assertTrue(thrown.getCause() instanceof NullPointerException);
+    }
+
+    @Test
+    public void shouldFailWithoutTestDataToReplay() {
+        Assertions.assertThrows(FunctionalTestException.class,
+                () -> new LoadTestRunner(Collections.emptyMap(), 1, 1000, 0));
+    }
+
+    @Test
+    public void shouldFailWithNonPositiveWeights() {
+        Assertions.assertThrows(FunctionalTestException.class,
+                () -> new LoadTestRunner(Collections.singletonMap("S-101", 0), 1, 1000, 0));
+    }
+}
@@ -0,0 +1,86 @@
+package uk.gov.hmcts.befta.player;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+public class CaseCreationPoolTest {
+
+    private final Map<String, AtomicInteger> creations = new ConcurrentHashMap<>();
+
+    private CaseCreationPool pool;
+
+    @AfterEach
+    public void closePool() {
+        if (pool != null)
+            pool.close();
+    }
+
+    @Test
+    public void shouldKeepTheConfiguredNumberOfCasesReadyForEachCreationData() throws InterruptedException {
+        pool = new CaseCreationPool(Arrays.asList("S-101_Case_Creation", "S-102_Case_Creation"), 3, 2,
+                this::countedCreation);
+
+        pool.fill();
+
+        waitUntil(() -> creationsOf("S-101_Case_Creation") == 3 && creationsOf("S-102_Case_Creation") == 3);
+        assertNotNull(pool.take("S-101_Case_Creation"));
+        waitUntil(() -> creationsOf("S-101_Case_Creation") == 4);
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertEquals(4, creationsOf("S-101_Case_Creation"));
+        assertEquals(3, creationsOf("S-102_Case_Creation"));
+    }
+
+    @Test
+    public void shouldNotHandOutCasesOfCreationDataNotPooled() {
+        pool = new CaseCreationPool(Collections.singletonList("S-101_Case_Creation"), 1, 1, this::countedCreation);
+
+        assertNull(pool.take("S-102_Case_Creation"));
+    }
+
+    @Test
+    public void shouldRetryAFailedCreationOnlyWhenTheNextCaseIsMissed() throws InterruptedException {
+        pool = new CaseCreationPool(Collections.singletonList("S-101_Case_Creation"), 1, 1, caseCreationDataId -> {
+            creations.computeIfAbsent(caseCreationDataId, id -> new AtomicInteger()).incrementAndGet();
+            throw new AssertionError("Response code mismatch");
+        });
+
+        pool.fill();
+        waitUntil(() -> pool.getFailedCreations() == 1);
+        assertEquals(1, creationsOf("S-101_Case_Creation"));
+
+        assertNull(pool.take("S-101_Case_Creation"));
+        waitUntil(() -> creationsOf("S-101_Case_Creation") == 2);
+    }
+
+    private BackEndFunctionalTestScenarioContext countedCreation(String caseCreationDataId) {
+        creations.computeIfAbsent(caseCreationDataId, id -> new AtomicInteger()).incrementAndGet();
+        return mock(BackEndFunctionalTestScenarioContext.class);
+    }
+
+    private int creationsOf(String caseCreationDataId) {
+        AtomicInteger count = creations.get(caseCreationDataId);
+        return count == null ? 0 : count.get();
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline)
+                throw new AssertionError("Condition not met in time");
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+}
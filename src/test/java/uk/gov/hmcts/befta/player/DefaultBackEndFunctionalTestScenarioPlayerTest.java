@@ -1,6 +1,9 @@
 package uk.gov.hmcts.befta.player;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -23,7 +26,10 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,6 +39,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
 import io.cucumber.java.Scenario;
@@ -50,12 +58,16 @@ import uk.gov.hmcts.befta.data.HttpTestData;
 import uk.gov.hmcts.befta.data.JsonStoreHttpTestDataSource;
 import uk.gov.hmcts.befta.data.RequestData;
 import uk.gov.hmcts.befta.data.ResponseData;
+import uk.gov.hmcts.befta.data.ResponseTimings;
 import uk.gov.hmcts.befta.data.UserData;
 import uk.gov.hmcts.befta.exception.FunctionalTestException;
 import uk.gov.hmcts.befta.exception.InvalidTestDataException;
 import uk.gov.hmcts.befta.exception.UnconfirmedApiCallException;
 import uk.gov.hmcts.befta.exception.UnconfirmedDataSpecException;
 import uk.gov.hmcts.befta.factory.BeftaScenarioContextFactory;
+import uk.gov.hmcts.befta.factory.HttpTransportFactory;
+import uk.gov.hmcts.befta.http.HttpTransport;
+import uk.gov.hmcts.befta.http.HttpTransportResponse;
 import uk.gov.hmcts.befta.util.DynamicValueInjector;
 import uk.gov.hmcts.befta.util.EnvironmentVariableUtils;
 import uk.gov.hmcts.befta.util.JsonUtils;
@@ -268,6 +280,26 @@ public class DefaultBackEndFunctionalTestScenarioPlayerTest {
         verifyNoMoreInteractions(requestSpecification);
     }
 
+    @Test
+    public void shouldPrepareARequestWithoutRestAssuredWhenSentThroughAnotherTransport() throws IOException {
+        HttpTestData testData = new HttpTestData();
+        testData.setRequest(new RequestData());
+        testData.setMethod("GET");
+
+        when(EnvironmentVariableUtils.getOptionalVariable("BEFTA_HTTP_TRANSPORT")).thenReturn("ASYNC");
+        when(context.getTestData()).thenReturn(testData);
+
+        try {
+            scenarioPlayer.prepareARequestWithAppropriateValues();
+        } finally {
+            HttpTransportFactory.closeHttpTransports();
+        }
+
+        restAssuredMock.verify(never(), RestAssured::given);
+        verify(context, never()).setTheRequest(any());
+        verify(context).setTheRequestBuildTime(any(Long.class));
+    }
+
     @Test
     public void shouldPrepareARequestWithAppropriateValuesAndRunPrerequisiteSpecifiedByString() throws Exception {
         // ARRANGE
@@ -525,6 +557,59 @@ public class DefaultBackEndFunctionalTestScenarioPlayerTest {
         verify(testDataContext, times(1)).setTheResponse(any());
     }
 
+    @Test
+    public void shouldRetryTheApiCallUntilTheExpectedResponseIsReceived() throws Exception {
+        String testDataId = "TD1";
+        String testDataSpec = "Spec1";
+        BackEndFunctionalTestScenarioContext testDataContext = createAndPrepareTestScenarioContext(testDataSpec, testDataId);
+        Mockito.when(BeftaScenarioContextFactory.createBeftaScenarioContext()).thenReturn(testDataContext);
+        mapVerifierMock.when(() -> MapVerifier.createMapVerifier("actualResponse.headers", 1, false)).thenReturn(mapVerifier);
+        mapVerifierMock.when(() -> MapVerifier.createMapVerifier("actualResponse.body", 20)).thenReturn(mapVerifier);
+        // headers and body of the first attempt, then of the second one
+        when(verificationResult.isVerified()).thenReturn(true, false, true, true);
+        when(verificationResult.getAllIssues()).thenReturn(Collections.singletonList("Body issue 1"));
+
+        scenarioPlayer.performAndVerifyTheExpectedResponseForAnApiCallEventually(testDataSpec, testDataId, "5");
+        scenarioPlayer.cucumberFinish(scenario);
+
+        verify(this.context, times(2)).addChildContext(eq(testDataContext));
+        verify(testDataContext, times(2)).setTheResponse(any());
+        verify(scenario).log(Mockito.startsWith("Expected response as in [TD1] received on attempt 2 after "));
+    }
+
+    @Test
+    public void shouldFailTheApiCallWhenTheExpectedResponseIsNotReceivedInTime() throws Exception {
+        String testDataId = "TD1";
+        String testDataSpec = "Spec1";
+        BackEndFunctionalTestScenarioContext testDataContext = createAndPrepareTestScenarioContext(testDataSpec, testDataId);
+        Mockito.when(BeftaScenarioContextFactory.createBeftaScenarioContext()).thenReturn(testDataContext);
+        mapVerifierMock.when(() -> MapVerifier.createMapVerifier("actualResponse.headers", 1, false)).thenReturn(mapVerifier);
+        mapVerifierMock.when(() -> MapVerifier.createMapVerifier("actualResponse.body", 20)).thenReturn(mapVerifier);
+        when(verificationResult.isVerified()).thenReturn(true, false);
+        when(verificationResult.getAllIssues()).thenReturn(Collections.singletonList("Body issue 1"));
+
+        AssertionError aeThrown = Assertions.assertThrows(AssertionError.class,
+                () -> scenarioPlayer.performAndVerifyTheExpectedResponseForAnApiCallEventually(testDataSpec,
+                        testDataId, "0.3"));
+
+        assertTrue(aeThrown.getMessage().startsWith("Expected response as in [TD1] not received in "));
+        assertTrue(aeThrown.getMessage().contains("Body issue 1"));
+    }
+
+    @Test
+    public void shouldPerformTheApiCallWithoutVerifyingTheResponse() throws Exception {
+        String testDataId = "TD1";
+        BackEndFunctionalTestScenarioContext testDataContext = createAndPrepareTestScenarioContext("Spec1", testDataId);
+        Mockito.when(BeftaScenarioContextFactory.createBeftaScenarioContext()).thenReturn(testDataContext);
+
+        scenarioPlayer.performTheApiCall(testDataId, false);
+
+        verify(this.context, never()).addChildContext(any());
+        verify(testDataContext, times(1)).initializeTestDataFor(eq(testDataId));
+        verify(testDataContext, times(1)).setTheResponse(any());
+        mapVerifierMock.verify(never(), () -> MapVerifier.createMapVerifier("actualResponse.body", 20));
+    }
+
     @Test
     public void shouldVerifyThatTheResponseHasAllTheDetailsAsExpectedSuccessfully() throws IOException {
         ResponseData response = createResponseDataWithResponseCode(200);
@@ -775,6 +860,190 @@ public class DefaultBackEndFunctionalTestScenarioPlayerTest {
         assertEquals("OK", responseData.getResponseMessage());
     }
 
+    @Test
+    public void shouldStreamJsonArrayResponseBodyIntoArrayInMap() throws IOException {
+        Map<String, Object> body = submitTheRequestWithJsonResponseBody("[{\"id\":1},{\"id\":2}]").getBody();
+
+        assertEquals(1, body.size());
+        assertEquals(Arrays.asList(Collections.singletonMap("id", 1), Collections.singletonMap("id", 2)),
+                body.get("arrayInMap"));
+    }
+
+    @Test
+    public void shouldStreamJsonObjectResponseBodyIntoMap() throws IOException {
+        Map<String, Object> body = submitTheRequestWithJsonResponseBody(" {\"id\":1,\"tags\":[\"a\"]}\n").getBody();
+
+        assertEquals(1, body.get("id"));
+        assertEquals(Collections.singletonList("a"), body.get("tags"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldRecordSizeAndHashOfFileInBody() throws IOException {
+        ResponseData expectedResponse = new ResponseData();
+        expectedResponse.setBody(Collections.singletonMap("__fileInBody__", "{}"));
+
+        Map<String, Object> body = submitTheRequestWithResponseBody("application/pdf", "hello", expectedResponse)
+                .getBody();
+
+        Map<String, Object> fileInBody = (Map<String, Object>) body.get("__fileInBody__");
+        assertEquals("5", fileInBody.get("size"));
+        assertEquals("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824",
+                fileInBody.get("contentHash"));
+    }
+
+    @Test
+    public void shouldRecordTimingsOfTheCall() throws IOException {
+        when(context.getTheRequestBuildTime()).thenReturn(7L);
+
+        ResponseTimings timings = submitTheRequestWithJsonResponseBody("{}").getTimings();
+
+        assertEquals(7L, timings.getRequestBuildTime());
+        assertTrue(timings.getSendTime() >= 0);
+        assertTrue(timings.getResponseNanos() > 0);
+        assertEquals(timings.getResponseTime(), TimeUnit.NANOSECONDS.toMillis(timings.getResponseNanos()), 1);
+        assertNull(timings.getTimeToFirstByte());
+        assertNull(timings.getVerificationTime());
+        verify(scenario).log("Response received in " + timings.getResponseTime() + " ms");
+    }
+
+    @Test
+    public void shouldFailToVerifyResponsesReceivedOverTheResponseTimeBudget() {
+        ResponseData response = createResponseDataWithResponseCode(200);
+        ResponseTimings timings = new ResponseTimings();
+        timings.setSendTime(150);
+        timings.setBodyReadTime(10);
+        response.setTimings(timings);
+        HttpTestData testData = new HttpTestData();
+        testData.setExpectedResponse(new ResponseData(response));
+        testData.setMaxResponseTimeMillis(100L);
+
+        when(context.getTestData()).thenReturn(testData);
+        mapVerifierMock.when(() -> MapVerifier.createMapVerifier("actualResponse.headers", 1, false)).thenReturn(mapVerifier);
+        mapVerifierMock.when(() -> MapVerifier.createMapVerifier("actualResponse.body", 20)).thenReturn(mapVerifier);
+        when(mapVerifier.verifyMap(any(), any())).thenReturn(verificationResult);
+        when(verificationResult.isVerified()).thenReturn(true);
+
+        AssertionError aeThrown = Assertions.assertThrows(AssertionError.class,
+                () -> scenarioPlayer.verifyThatTheResponseHasAllTheDetailsAsExpected());
+        assertTrue(aeThrown.getMessage().contains("Response time over budget, expected at most: 100 ms, actual: 160 ms"));
+        assertNotNull(timings.getVerificationTime());
+    }
+
+    @Test
+    public void shouldVerifyThatTheResponseWasReceivedWithinAGivenNumberOfMilliseconds() {
+        ResponseTimings timings = new ResponseTimings();
+        timings.setSendTime(150);
+        createResponseDataWithResponseCode(200).setTimings(timings);
+
+        scenarioPlayer.verifyThatTheResponseWasReceivedWithinAGivenNumberOfMilliseconds("150");
+        verify(scenario).log("Response time: 150 ms");
+
+        AssertionError aeThrown = Assertions.assertThrows(AssertionError.class,
+                () -> scenarioPlayer.verifyThatTheResponseWasReceivedWithinAGivenNumberOfMilliseconds("149"));
+        assertEquals("Response time '150 ms' is over the limit of '149 ms'.", aeThrown.getMessage());
+        Assertions.assertThrows(FunctionalTestException.class,
+                () -> scenarioPlayer.verifyThatTheResponseWasReceivedWithinAGivenNumberOfMilliseconds("fast"));
+    }
+
+    private ResponseData submitTheRequestWithJsonResponseBody(String bodyString) throws IOException {
+        return submitTheRequestWithResponseBody("application/json", bodyString, new ResponseData());
+    }
+
+    private ResponseData submitTheRequestWithResponseBody(String contentType, String bodyString,
+            ResponseData expectedResponse) throws IOException {
+        final String uri = "URI";
+        HttpTestData testData = mock(HttpTestData.class);
+        when(testData.meetsOperationOfProduct(eq(PRODUCT_NAME), eq(OPERATION))).thenReturn(true);
+        when(testData.getMethod()).thenReturn("GET");
+        when(testData.getUri()).thenReturn(uri);
+        when(testData.getExpectedResponse()).thenReturn(expectedResponse);
+        when(testData.getRequest()).thenReturn(new RequestData());
+        when(context.getTestData()).thenReturn(testData);
+        when(context.getTheRequest()).thenReturn(requestSpecification);
+
+        Response response = mock(Response.class);
+        when(response.getHeaders())
+                .thenReturn(new Headers(Collections.singletonList(new Header("Content-Type", contentType))));
+        when(response.getStatusCode()).thenReturn(200);
+        when(response.getContentType()).thenReturn(contentType);
+        ResponseBody<?> responseBody = mock(ResponseBody.class);
+        when(responseBody.asInputStream())
+                .thenReturn(new ByteArrayInputStream(bodyString.getBytes(StandardCharsets.UTF_8)));
+        when(response.getBody()).thenReturn(responseBody);
+        when(requestSpecification.request(eq("GET"), eq(uri))).thenReturn(response);
+        when(SpecificationQuerier.query(eq(requestSpecification))).thenReturn(mock(QueryableRequestSpecification.class));
+
+        scenarioPlayer.submitTheRequestToCallAnOperationOfAProduct(OPERATION, PRODUCT_NAME);
+
+        verify(testData).setActualResponse((ResponseData) captor.capture());
+        return (ResponseData) captor.getValue();
+    }
+
+    @Test
+    public void shouldPerformTheApiCallAsynchronouslyThroughTheHttpTransport() throws IOException {
+        HttpTestData testData = new HttpTestData();
+        testData.setRequest(new RequestData());
+        testData.setMethod("GET");
+        testData.setUri("http://localhost/cases");
+        testData.setOperationName(OPERATION);
+        testData.setProductName(PRODUCT_NAME);
+        testData.setExpectedResponse(new ResponseData());
+        HttpTransport transport = mock(HttpTransport.class);
+        CompletableFuture<HttpTransportResponse> sent = new CompletableFuture<>();
+        HttpTransportResponse response = mock(HttpTransportResponse.class);
+        when(response.getStatusCode()).thenReturn(200);
+        when(response.getHeaders()).thenReturn(Collections.emptyMap());
+        when(response.getBodyAsString()).thenReturn("done");
+
+        when(BeftaScenarioContextFactory.createBeftaScenarioContext()).thenReturn(context);
+        when(context.getTestData()).thenReturn(testData);
+        when(context.getTheResponse()).thenAnswer(invocation -> testData.getActualResponse());
+        when(transport.send(any())).thenReturn(sent);
+
+        try (MockedStatic<HttpTransportFactory> httpTransportFactoryMock = mockStatic(HttpTransportFactory.class)) {
+            httpTransportFactoryMock.when(() -> HttpTransportFactory.getHttpTransport(any())).thenReturn(transport);
+
+            CompletableFuture<ResponseData> call = scenarioPlayer.performTheApiCallAsynchronously("S-103", false,
+                    Runnable::run);
+
+            assertFalse(call.isDone());
+            sent.complete(response);
+            assertEquals(200, call.join().getResponseCode());
+            assertEquals("done", call.join().getBody().get("__plainTextValue__"));
+        }
+        verify(context).initializeTestDataFor("S-103");
+        restAssuredMock.verify(never(), RestAssured::given);
+    }
+
+    @Test
+    public void shouldFailTheAsynchronousApiCallWithTheFailureOfTheHttpTransport() throws IOException {
+        HttpTestData testData = new HttpTestData();
+        testData.setRequest(new RequestData());
+        testData.setMethod("GET");
+        testData.setUri("http://localhost/cases");
+        testData.setOperationName(OPERATION);
+        testData.setProductName(PRODUCT_NAME);
+        HttpTransport transport = mock(HttpTransport.class);
+        CompletableFuture<HttpTransportResponse> sent = new CompletableFuture<>();
+
+        when(BeftaScenarioContextFactory.createBeftaScenarioContext()).thenReturn(context);
+        when(context.getTestData()).thenReturn(testData);
+        when(transport.send(any())).thenReturn(sent);
+
+        try (MockedStatic<HttpTransportFactory> httpTransportFactoryMock = mockStatic(HttpTransportFactory.class)) {
+            httpTransportFactoryMock.when(() -> HttpTransportFactory.getHttpTransport(any())).thenReturn(transport);
+
+            CompletableFuture<ResponseData> call = scenarioPlayer.performTheApiCallAsynchronously("S-103", false,
+                    Runnable::run);
+            sent.completeExceptionally(new IllegalStateException("Connection refused"));
+
+            CompletionException thrown = Assertions.assertThrows(CompletionException.class, call::join);
+            assertTrue(thrown.getCause() instanceof FunctionalTestException);
+            assertEquals("Failed to call GET http://localhost/cases", thrown.getCause().getMessage());
+        }
+    }
+
     @Test
     public void shouldFailToSubmitTheRequestToCallAnOperationOfAProductWithInvalidMethodType() throws IOException {
         HttpTestData testData = mock(HttpTestData.class);
@@ -871,6 +1140,36 @@ public class DefaultBackEndFunctionalTestScenarioPlayerTest {
         verify(testDataContext, times(2)).setTheResponse(any());
     }
 
+    @Test
+    void testCreateCaseWithTheDataProvidedInATestDataObjectTakesAPreCreatedCase() throws Exception {
+        String caseCreationDataId = "S-101_Case_Creation";
+        String tokenCreationDataId = "Standard_Token_Creation_Data_For_Case_Creation";
+        BackEndFunctionalTestScenarioContext tokenContext = createAndPrepareTestScenarioContext(
+                "to create a token for case creation", tokenCreationDataId);
+        BackEndFunctionalTestScenarioContext caseContext = createAndPrepareTestScenarioContext("to create a full case",
+                caseCreationDataId);
+        Map<String, BackEndFunctionalTestScenarioContext> preCreatedContexts = new LinkedHashMap<>();
+        preCreatedContexts.put(tokenCreationDataId, tokenContext);
+        preCreatedContexts.put(caseCreationDataId, caseContext);
+        BackEndFunctionalTestScenarioContext preCreatedCase = mock(BackEndFunctionalTestScenarioContext.class);
+        when(preCreatedCase.getChildContexts()).thenReturn(preCreatedContexts);
+        when(context.getChildContexts()).thenReturn(preCreatedContexts);
+        CaseCreationPool casePool = mock(CaseCreationPool.class);
+        when(casePool.take(caseCreationDataId)).thenReturn(preCreatedCase);
+        Field instanceField = CaseCreationPool.class.getDeclaredField("instance");
+        TestUtils.setFieldWithReflection(instanceField, casePool);
+
+        try {
+            scenarioPlayer.createCaseWithTheDataProvidedInATestDataObject(caseCreationDataId);
+        } finally {
+            TestUtils.setFieldWithReflection(instanceField, null);
+        }
+
+        verify(this.context).addChildContext(tokenCreationDataId, tokenContext);
+        verify(this.context).addChildContext(caseCreationDataId, caseContext);
+        verify(caseContext, never()).setTheResponse(any());
+    }
+
 	/**
 	 * Test method for {@link uk.gov.hmcts.befta.player.DefaultBackEndFunctionalTestScenarioPlayer#createCaseWithTheDataProvidedInATestDataObject(java.lang.String, java.lang.String)}.
 	 * @throws IOException 
@@ -0,0 +1,143 @@
+package uk.gov.hmcts.befta.player;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import uk.gov.hmcts.befta.data.HttpTestData;
+import uk.gov.hmcts.befta.data.RequestData;
+import uk.gov.hmcts.befta.exception.FunctionalTestException;
+
+public class PrerequisitePlanTest {
+
+    @Test
+    public void shouldOrderPrerequisitesListedInTheSameMap() {
+        Map<String, String> ordered = new LinkedHashMap<>();
+        ordered.put("Case_Creation", "S-100_Create_Case");
+        ordered.put("Case_Update", "S-100_Update_Case");
+        PrerequisitePlan plan = PrerequisitePlan.of(Arrays.asList("Token_Creation", ordered));
+
+        List<PrerequisitePlan.Prerequisite> prerequisites = plan.getPrerequisites();
+        assertEquals(3, prerequisites.size());
+        assertEquals("Token_Creation", prerequisites.get(0).getTestDataId());
+        assertEquals("Case_Update", prerequisites.get(2).getContextId());
+        assertEquals("S-100_Update_Case", prerequisites.get(2).getTestDataId());
+        assertTrue(prerequisites.get(0).getDependencies().isEmpty());
+        assertTrue(prerequisites.get(1).getDependencies().isEmpty());
+        assertEquals(Collections.singleton(1), prerequisites.get(2).getDependencies());
+    }
+
+    @Test
+    public void shouldFailForUnrecognisedPrerequisiteDataType() {
+        Assertions.assertThrows(FunctionalTestException.class,
+                () -> PrerequisitePlan.of(Collections.singletonList(1)));
+    }
+
+    @Test
+    public void shouldFindDependenciesThroughContextIdsAndContextReferences() throws IOException {
+        Map<String, HttpTestData> testData = new HashMap<>();
+        testData.put("Token_Creation", new HttpTestData());
+        testData.put("Other_Token_Creation", new HttpTestData());
+        testData.put("Case_Creation", testDataWithBody("caseToken",
+                "${[scenarioContext][siblingContexts][Token_Creation][testData][actualResponse][body][token]}"));
+        testData.put("Nested_Case_Creation", new HttpTestData());
+        testData.get("Nested_Case_Creation").setPrerequisites(Collections.singletonList("Case_Creation"));
+        Map<String, String> sameContext = new LinkedHashMap<>();
+        sameContext.put("Token_Creation", "Other_Token_Creation");
+        PrerequisitePlan plan = PrerequisitePlan.of(
+                Arrays.asList("Token_Creation", "Other_Token_Creation", "Nested_Case_Creation", sameContext));
+
+        plan.analyseDependencies(testData::get);
+
+        List<PrerequisitePlan.Prerequisite> prerequisites = plan.getPrerequisites();
+        assertTrue(prerequisites.get(1).getDependencies().isEmpty());
+        assertEquals(Collections.singleton(0), prerequisites.get(2).getDependencies());
+        assertEquals(Collections.singleton(0), prerequisites.get(3).getDependencies());
+    }
+
+    @Test
+    public void shouldRunIndependentPrerequisitesConcurrently() throws IOException {
+        List<Object> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            ids.add("Prerequisite_" + i);
+        PrerequisitePlan plan = PrerequisitePlan.of(ids);
+        List<String> run = Collections.synchronizedList(new ArrayList<>());
+
+        long start = System.nanoTime();
+        plan.runConcurrently((contextId, testDataId) -> {
+            sleep(200);
+            run.add(contextId);
+        }, 5);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(5, run.size());
+        assertTrue("Took " + elapsedMillis + " ms", elapsedMillis < 800);
+    }
+
+    @Test
+    public void shouldRunDependentPrerequisitesInOrder() throws IOException {
+        Map<String, String> ordered = new LinkedHashMap<>();
+        ordered.put("First", "First");
+        ordered.put("Second", "Second");
+        ordered.put("Third", "Third");
+        PrerequisitePlan plan = PrerequisitePlan.of(Collections.singletonList(ordered));
+        List<String> run = Collections.synchronizedList(new ArrayList<>());
+
+        plan.runConcurrently((contextId, testDataId) -> {
+            sleep(20);
+            run.add(contextId);
+        }, 3);
+
+        assertEquals(Arrays.asList("First", "Second", "Third"), run);
+    }
+
+    @Test
+    public void shouldNotRunDependentsOfAFailedPrerequisite() {
+        Map<String, String> ordered = new LinkedHashMap<>();
+        ordered.put("Failing", "Failing");
+        ordered.put("Dependent", "Dependent");
+        PrerequisitePlan plan = PrerequisitePlan.of(Arrays.asList(ordered, "Independent"));
+        List<String> run = Collections.synchronizedList(new ArrayList<>());
+
+        IOException thrown = Assertions.assertThrows(IOException.class,
+                () -> plan.runConcurrently((contextId, testDataId) -> {
+                    if (contextId.equals("Failing"))
+                        throw new IOException("Failed");
+                    run.add(contextId);
+                }, 2));
+
+        assertEquals("Failed", thrown.getMessage());
+        assertFalse(run.contains("Dependent"));
+        assertTrue(run.contains("Independent"));
+    }
+
+    private HttpTestData testDataWithBody(String field, String value) {
+        Map<String, Object> body = new HashMap<>();
+        body.put(field, value);
+        RequestData request = new RequestData();
+        request.setBody(body);
+        HttpTestData testData = new HttpTestData();
+        testData.setRequest(request);
+        return testData;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
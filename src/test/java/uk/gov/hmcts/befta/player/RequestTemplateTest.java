@@ -0,0 +1,100 @@
+package uk.gov.hmcts.befta.player;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import uk.gov.hmcts.befta.data.HttpTestData;
+import uk.gov.hmcts.befta.data.RequestData;
+import uk.gov.hmcts.befta.exception.FunctionalTestException;
+
+public class RequestTemplateTest {
+
+    @Test
+    public void shouldReuseTheSerialisedBodyWhileTheBodyIsUnchanged() throws IOException {
+        HttpTestData source = createTestData("S-101", Collections.singletonMap("name", "value"));
+        RequestTemplate template = new RequestTemplate(source);
+
+        byte[] bodyBytes = template.bodyBytes(new RequestData(source.getRequest()));
+
+        assertEquals("{\"name\":\"value\"}", new String(bodyBytes, StandardCharsets.UTF_8));
+        assertSame(bodyBytes, template.bodyBytes(new RequestData(source.getRequest())));
+    }
+
+    @Test
+    public void shouldSerialiseABodyWithDynamicValuesOnEachCall() throws IOException {
+        HttpTestData source = createTestData("S-101",
+                Collections.singletonMap("id", "${[scenarioContext][customValues][UniqueString]}"));
+        RequestTemplate template = new RequestTemplate(source);
+        RequestData injected = new RequestData(source.getRequest());
+        injected.setBody(Collections.singletonMap("id", "abc"));
+
+        byte[] bodyBytes = template.bodyBytes(injected);
+
+        assertEquals("{\"id\":\"abc\"}", new String(bodyBytes, StandardCharsets.UTF_8));
+        assertNotSame(bodyBytes, template.bodyBytes(injected));
+    }
+
+    @Test
+    public void shouldSerialiseTheArrayInMapOfABody() throws IOException {
+        HttpTestData source = createTestData("S-101",
+                Collections.singletonMap("arrayInMap", Collections.singletonList("value")));
+
+        assertArrayEquals("[\"value\"]".getBytes(StandardCharsets.UTF_8),
+                new RequestTemplate(source).bodyBytes(source.getRequest()));
+    }
+
+    @Test
+    public void shouldExpandThePathVariablesInTheUri() throws IOException {
+        HttpTestData source = createTestData("S-101", null);
+        source.setUri("/cases/{cid}/users/{uid}/{unknown}");
+        Map<String, Object> pathVariables = new LinkedHashMap<>();
+        pathVariables.put("cid", "123 456");
+        pathVariables.put("uid", "a/b");
+        RequestTemplate template = new RequestTemplate(source);
+
+        assertEquals("/cases/123%20456/users/a%2Fb/{unknown}", template.expandUri(source.getUri(), pathVariables));
+        assertEquals("/other/123%20456", template.expandUri("/other/{cid}", pathVariables));
+    }
+
+    @Test
+    public void shouldFailWithAnUnrecognisedMethod() {
+        HttpTestData source = createTestData("S-101", null);
+        source.setMethod("GETT");
+        RequestTemplate template = new RequestTemplate(source);
+
+        FunctionalTestException thrown = Assertions.assertThrows(FunctionalTestException.class, template::getMethod);
+        assertEquals("Method 'GETT' in test data file not recognised", thrown.getMessage());
+    }
+
+    @Test
+    public void shouldBuildTheTemplateOfATestDataOnlyOnce() {
+        HttpTestData source = createTestData("S-RequestTemplate-Cached", null);
+        RequestTemplate template = RequestTemplate.of(source);
+
+        assertSame(template, RequestTemplate.of(source));
+        assertNotSame(template, RequestTemplate.of(createTestData("S-RequestTemplate-Cached", null)));
+    }
+
+    private HttpTestData createTestData(String id, Map<String, Object> body) {
+        HttpTestData testData = new HttpTestData();
+        testData.set_guid_(id);
+        testData.setMethod("post");
+        testData.setUri("/cases");
+        RequestData requestData = new RequestData();
+        requestData.setHeaders(Collections.singletonMap("Content-Type", "application/json"));
+        requestData.setBody(body);
+        testData.setRequest(requestData);
+        return testData;
+    }
+}
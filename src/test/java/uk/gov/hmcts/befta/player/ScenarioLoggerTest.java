@@ -0,0 +1,86 @@
+package uk.gov.hmcts.befta.player;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.util.Collections;
+
+import io.cucumber.java.Scenario;
+import uk.gov.hmcts.befta.TestAutomationConfig.ScenarioLogLevel;
+
+public class ScenarioLoggerTest {
+
+    private final Scenario scenario = mock(Scenario.class);
+
+    @Test
+    public void shouldLogPayloadsInOrderWhenFlushed() {
+        ScenarioLogger logger = new ScenarioLogger(scenario, ScenarioLogLevel.FULL, 0);
+
+        logger.log("Called");
+        logger.logPayload("Response: ", Collections.singletonMap("key", "value"));
+        logger.log("Response code: 200");
+        verify(scenario, never()).log("Response code: 200");
+        logger.flush();
+
+        InOrder inOrder = inOrder(scenario);
+        inOrder.verify(scenario).log("Called");
+        inOrder.verify(scenario).log("Response: {\n  \"key\" : \"value\"\n}");
+        inOrder.verify(scenario).log("Response code: 200");
+    }
+
+    @Test
+    public void shouldTruncatePayloadsOverTheLimit() {
+        ScenarioLogger logger = new ScenarioLogger(scenario, ScenarioLogLevel.FULL, 5);
+
+        logger.logPayload("Body: ", "0123456789");
+        logger.flush();
+
+        verify(scenario).log("Body: 01234\n... [truncated 5 more characters]");
+    }
+
+    @Test
+    public void shouldLogPayloadsOnlyOnFailure() {
+        ScenarioLogger logger = new ScenarioLogger(scenario, ScenarioLogLevel.ON_FAILURE, 0);
+
+        logger.logPayload("Body: ", "text");
+        logger.log("Response code: 500");
+        logger.flush();
+        verify(scenario).log("Response code: 500");
+        verify(scenario, never()).log("Body: text");
+
+        logger.logRetainedPayloads();
+        verify(scenario).log("Body: text");
+    }
+
+    @Test
+    public void shouldLogSummaryWithoutPayloads() {
+        ScenarioLogger logger = new ScenarioLogger(scenario, ScenarioLogLevel.SUMMARY, 0);
+
+        logger.logPayload("Body: ", "text");
+        logger.log("Response code: 200");
+        logger.logRetainedPayloads();
+
+        ArgumentCaptor<String> messages = ArgumentCaptor.forClass(String.class);
+        verify(scenario).log(messages.capture());
+        assertEquals("Response code: 200", messages.getValue());
+    }
+
+    @Test
+    public void shouldLogNothingWhenOff() {
+        ScenarioLogger logger = new ScenarioLogger(scenario, ScenarioLogLevel.OFF, 0);
+
+        logger.log("Response code: 200");
+        logger.logPayload("Body: ", "text");
+        logger.logRetainedPayloads();
+
+        verify(scenario, never()).log(anyString());
+    }
+}
@@ -7,6 +7,8 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -22,6 +24,7 @@ class BeftaUtilsTest {
 	private static final String[] MULT_STRS = {"tempdirectory","tempfilepath"};
     private static final String TEMPORARY_DEFINITION_FOLDER = "definition_files";
     private static final String TEMPORARY_FILE_NAME = "framework-test-data/json-store-test-data";
+    private static final String CLASS_PATH_FILE_NAME = "framework-test-data-indexed/Generated-Objects.td.json";
     private static final String TEMPORARY_SIMPLE_FOLDER = "framework-test-data/json-store-test-data/test-directory";
 	private static final String[] SINGLE_STR = {TEMPORARY_FILE_NAME};
 	/**
@@ -66,6 +69,28 @@ class BeftaUtilsTest {
 		assertTrue(actual.delete());
 	}
 
+	/**
+	 * Test method for {@link uk.gov.hmcts.befta.util.BeftaUtils#getClassPathResourceAsBytes(java.lang.String)}.
+	 */
+	@Test
+	void testGetClassPathResourceAsBytes() throws Exception {
+		byte[] actual = BeftaUtils.getClassPathResourceAsBytes(CLASS_PATH_FILE_NAME);
+		byte[] expected = Files.readAllBytes(Paths.get("src/test/resources", CLASS_PATH_FILE_NAME));
+		assertArrayEquals(expected, actual);
+		assertSame(actual, BeftaUtils.getClassPathResourceAsBytes(CLASS_PATH_FILE_NAME));
+	}
+
+	/**
+	 * Test method for {@link uk.gov.hmcts.befta.util.BeftaUtils#getClassPathResourceAsBytes(java.lang.String)}.
+	 */
+	@Test
+	void testGetClassPathResourceAsBytesNeg() {
+		FunctionalTestException aeThrown = Assertions.assertThrows(FunctionalTestException.class,
+				() -> BeftaUtils.getClassPathResourceAsBytes(TEMPORARY_DEFINITION_FOLDER),
+				"FunctionalTestException is not thrown");
+		assertTrue(aeThrown.getMessage().contains("Failed to load from filePath: " + TEMPORARY_DEFINITION_FOLDER));
+	}
+
 	/**
 	 * Test method for {@link uk.gov.hmcts.befta.util.BeftaUtils#getClassPathResourceIntoTemporaryFile(java.lang.String)}.
 	 */
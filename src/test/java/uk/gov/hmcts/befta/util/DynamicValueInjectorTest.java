@@ -209,6 +209,29 @@ public class DynamicValueInjectorTest {
         testAndVerifyInjectionOfCustomValues(expectedResponse);
     }
 
+    @Test
+    public void shouldCopyOnlyTheChangedPathsOfBodiesSharedWithTheTestDataSource() {
+        HttpTestData original = TEST_DATA_RESOURCE.getDataForTestCall("Custom-Value-Test-Data");
+        scenarioContext = new BackEndFunctionalTestScenarioContextForTest();
+        scenarioContext.initializeTestDataFor("Custom-Value-Test-Data");
+        HttpTestData testData = scenarioContext.getTestData();
+        Mockito.when(taAdapter.calculateCustomValue(scenarioContext, "test-custom-value-key")).thenReturn("VALUE");
+        Mockito.when(taAdapter.calculateCustomValue(scenarioContext, "test-custom-value-string")).thenReturn("INLINE");
+
+        Assert.assertSame(original.getRequest().getBody(), testData.getRequest().getBody());
+
+        DynamicValueInjectorFactory.create(taAdapter, testData, scenarioContext).injectDataFromContextBeforeApiCall();
+
+        Assert.assertNotSame(original.getRequest().getBody(), testData.getRequest().getBody());
+        Assert.assertSame(original.getRequest().getBody().get("static-map"),
+                testData.getRequest().getBody().get("static-map"));
+        Assert.assertEquals("VALUE", ((Map<?, ?>) testData.getRequest().getBody().get("map")).get("test-custom-value"));
+        Assert.assertEquals("${[scenarioContext][customValues][test-custom-value-key]}",
+                ((Map<?, ?>) original.getRequest().getBody().get("map")).get("test-custom-value"));
+        Assert.assertEquals("BEFORE-${[scenarioContext][customValues][test-custom-value-string]}-AFTER",
+                original.getRequest().getBody().get("inline-value"));
+    }
+
     private void testAndVerifyInjectionOfCustomValues(Object expectedResponse) {
         // ARRANGE
         scenarioContext = new BackEndFunctionalTestScenarioContextForTest();
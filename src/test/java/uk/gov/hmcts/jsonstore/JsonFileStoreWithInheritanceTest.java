@@ -1,6 +1,9 @@
 package uk.gov.hmcts.jsonstore;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static uk.gov.hmcts.common.CommonAssertions.applyCommonAssertionsOnBasicData;
 import static uk.gov.hmcts.common.CommonAssertions.applyCommonAssertionsOnExtendedData;
@@ -12,8 +15,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 
 import java.io.File;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import uk.gov.hmcts.befta.data.HttpTestData;
 
@@ -76,6 +84,116 @@ public class JsonFileStoreWithInheritanceTest {
         applyCommonAssertionsOnOverriddenData(data);
     }
 
+    @Test
+    public void shouldReloadChangedFileAndReResolveOnlyObjectsExtendingIt() throws Exception {
+        File directory = copyResourceToTemporaryDirectory(INHERITANCE_TEST_DATA_RESOURCE_FOLDER);
+        fileStore = new JsonFileStoreWithInheritance(directory);
+        HttpTestData inherited = fileStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class);
+        assertEquals("TITLE", inherited.getTitle());
+
+        File baseFile = new File(directory, FILE_WITHOUT_INHERITANCE + ".td.json");
+        replaceInFile(baseFile, "\"TITLE\"", "\"CHANGED TITLE\"");
+        Set<String> reResolvedIds = fileStore.reloadFiles(Collections.singleton(baseFile));
+
+        assertEquals(new HashSet<>(Arrays.asList(FILE_WITHOUT_INHERITANCE, FILE_WITH_INHERITANCE, FILE_WITH_OVERRIDES)),
+                reResolvedIds);
+        assertEquals("CHANGED TITLE", fileStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class).getTitle());
+        assertEquals("CHANGED TITLE", fileStore.getObjectWithId(FILE_WITH_OVERRIDES, HttpTestData.class).getTitle());
+        assertFalse(fileStore.getRootNode().toString().contains("inheritanceApplied"));
+    }
+
+    @Test
+    public void shouldReloadOnlyChangedFileWhenNothingExtendsIt() throws Exception {
+        File directory = copyResourceToTemporaryDirectory(INHERITANCE_TEST_DATA_RESOURCE_FOLDER);
+        fileStore = new JsonFileStoreWithInheritance(directory);
+        HttpTestData base = fileStore.getObjectWithId(FILE_WITHOUT_INHERITANCE, HttpTestData.class);
+
+        File overridingFile = new File(directory, FILE_WITH_OVERRIDES + ".td.json");
+        replaceInFile(overridingFile, "\"NEW USERNAME\"", "\"CHANGED USERNAME\"");
+        Set<String> reResolvedIds = fileStore.reloadFiles(Collections.singleton(overridingFile));
+
+        assertEquals(Collections.singleton(FILE_WITH_OVERRIDES), reResolvedIds);
+        assertSame(base, fileStore.getObjectWithId(FILE_WITHOUT_INHERITANCE, HttpTestData.class));
+        assertEquals("CHANGED USERNAME", fileStore.getObjectWithId(FILE_WITH_OVERRIDES, HttpTestData.class)
+                .getInvokingUser().getUsername());
+    }
+
+    @Test
+    public void shouldLeaveTheParentOfAReloadedObjectUnchanged() throws Exception {
+        File directory = copyResourceToTemporaryDirectory(INHERITANCE_TEST_DATA_RESOURCE_FOLDER);
+        fileStore = new JsonFileStoreWithInheritance(directory);
+        fileStore.getObjectWithId(FILE_WITH_OVERRIDES, HttpTestData.class);
+        String parentBeforeReload = findInRootNode(FILE_WITHOUT_INHERITANCE).toString();
+
+        File overridingFile = new File(directory, FILE_WITH_OVERRIDES + ".td.json");
+        replaceInFile(overridingFile, "\"NEW USERNAME\"", "\"CHANGED USERNAME\"");
+        fileStore.reloadFiles(Collections.singleton(overridingFile));
+
+        assertEquals(parentBeforeReload, findInRootNode(FILE_WITHOUT_INHERITANCE).toString());
+        assertFalse(fileStore.getRootNode().toString().contains("inheritanceApplied"));
+        assertFalse(fileStore.getRootNode().toString().contains("_extends_"));
+    }
+
+    @Test
+    public void shouldRemoveObjectsOfDeletedFileOnReload() throws Exception {
+        File directory = copyResourceToTemporaryDirectory(INHERITANCE_TEST_DATA_RESOURCE_FOLDER);
+        fileStore = new JsonFileStoreWithInheritance(directory);
+        fileStore.getObjectWithId(FILE_WITH_OVERRIDES, HttpTestData.class);
+
+        File overridingFile = new File(directory, FILE_WITH_OVERRIDES + ".td.json");
+        assertTrue(overridingFile.delete());
+        fileStore.reloadFiles(Collections.singleton(overridingFile));
+
+        assertNull(fileStore.getObjectWithId(FILE_WITH_OVERRIDES, HttpTestData.class));
+        assertEquals(2, fileStore.getRootNode().size());
+    }
+
+    @Test
+    public void shouldReloadChangedFilesWhileWatching() throws Exception {
+        File directory = copyResourceToTemporaryDirectory(INHERITANCE_TEST_DATA_RESOURCE_FOLDER);
+        fileStore = new JsonFileStoreWithInheritance(directory);
+        fileStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class);
+        fileStore.startWatching();
+        try {
+            replaceInFile(new File(directory, FILE_WITHOUT_INHERITANCE + ".td.json"), "\"TITLE\"",
+                    "\"WATCHED TITLE\"");
+
+            long deadline = System.currentTimeMillis() + 30000;
+            String title = null;
+            while (!"WATCHED TITLE".equals(title) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+                title = fileStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class).getTitle();
+            }
+            assertEquals("WATCHED TITLE", title);
+        } finally {
+            fileStore.stopWatching();
+        }
+    }
+
+    private JsonNode findInRootNode(String id) throws Exception {
+        for (JsonNode object : fileStore.getRootNode()) {
+            if (id.equals(object.get(ID_KEY).asText()))
+                return object;
+        }
+        return null;
+    }
+
+    private File copyResourceToTemporaryDirectory(String location) throws Exception {
+        File directory = Files.createTempDirectory("befta-json-store").toFile();
+        directory.deleteOnExit();
+        for (File file : getFileFromResource(location).listFiles()) {
+            File copy = new File(directory, file.getName());
+            Files.copy(file.toPath(), copy.toPath());
+            copy.deleteOnExit();
+        }
+        return directory;
+    }
+
+    private void replaceInFile(File file, String target, String replacement) throws Exception {
+        String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        Files.write(file.toPath(), content.replace(target, replacement).getBytes(StandardCharsets.UTF_8));
+    }
+
     private File getFileFromResource(String location) {
         URL url = ClassLoader.getSystemResource(location);
         return new File(url.getFile());
@@ -0,0 +1,87 @@
+package uk.gov.hmcts.jsonstore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.hmcts.common.CommonAssertions.applyCommonAssertionsOnBasicData;
+import static uk.gov.hmcts.common.CommonAssertions.applyCommonAssertionsOnExtendedData;
+import static uk.gov.hmcts.common.CommonAssertions.applyCommonAssertionsOnOverriddenData;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import uk.gov.hmcts.befta.data.HttpTestData;
+import uk.gov.hmcts.befta.exception.InvalidTestDataException;
+
+public class JsonIndexedResourceStoreWithInheritanceTest {
+
+    private JsonIndexedResourceStoreWithInheritance indexedStore;
+
+    private static final String[] INHERITANCE_TEST_DATA_RESOURCES = {
+            "framework-test-data/inheritance-test-data/Simple-Data-Without-Inheritance.td.json",
+            "framework-test-data/inheritance-test-data/Simple-Data-With-Inheritance.td.json",
+            "framework-test-data/inheritance-test-data/Simple-Data-With-Overrides.td.json",
+            "framework-test-data-indexed/Generated-Objects.td.json"
+    };
+
+    private static final String[] DUPLICATE_GUID_TEST_DATA_RESOURCES = {
+            "framework-test-data-duplicate-guids/features-with-duplicate-guids/F-050/F-050_Test_Data_Base.td.json",
+            "framework-test-data-duplicate-guids/features-with-duplicate-guids/F-050/F-050_Test_Data_Base_DUPLICATE.td.json"
+    };
+
+    private static final String FILE_WITHOUT_INHERITANCE = "Simple-Data-Without-Inheritance";
+    private static final String FILE_WITH_INHERITANCE = "Simple-Data-With-Inheritance";
+    private static final String FILE_WITH_OVERRIDES = "Simple-Data-With-Overrides";
+
+    @Test
+    public void shouldBuildOnlyTheTreeOfTheRequestedObject() throws Exception {
+        indexedStore = new JsonIndexedResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+
+        applyCommonAssertionsOnBasicData(indexedStore.getObjectWithId(FILE_WITHOUT_INHERITANCE, HttpTestData.class));
+        assertEquals(1, indexedStore.getRootNode().size());
+    }
+
+    @Test
+    public void shouldBuildTheTreesOfTheAncestorsOfTheRequestedObject() throws Exception {
+        indexedStore = new JsonIndexedResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+
+        applyCommonAssertionsOnExtendedData(indexedStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class));
+        assertEquals(2, indexedStore.getRootNode().size());
+
+        applyCommonAssertionsOnOverriddenData(indexedStore.getObjectWithId(FILE_WITH_OVERRIDES, HttpTestData.class));
+        assertEquals(3, indexedStore.getRootNode().size());
+    }
+
+    @Test
+    public void shouldBuildTheTreeOfTheOutermostObjectForNestedObjects() throws Exception {
+        indexedStore = new JsonIndexedResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+
+        HttpTestData nested = indexedStore.getObjectWithId("Generated-Object-2", HttpTestData.class);
+        assertEquals("GENERATED TITLE 2", nested.getTitle());
+        assertEquals("URI", nested.getUri());
+        assertEquals(Arrays.asList("SPEC 1", "SPEC 2", "SPEC 3"), nested.getSpecs());
+        assertEquals(2, indexedStore.getRootNode().size());
+
+        assertEquals("GENERATED TITLE 1",
+                indexedStore.getObjectWithId("Generated-Object-1", HttpTestData.class).getTitle());
+        assertEquals(2, indexedStore.getRootNode().size());
+    }
+
+    @Test
+    public void shouldNotBuildAnyTreeForUnknownIds() throws Exception {
+        indexedStore = new JsonIndexedResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+
+        assertNull(indexedStore.getObjectWithId("Not-Existing", HttpTestData.class));
+        assertEquals(0, indexedStore.getRootNode().size());
+    }
+
+    @Test
+    public void shouldDetectDuplicateGuidsWhileIndexing() {
+        indexedStore = new JsonIndexedResourceStoreWithInheritance(DUPLICATE_GUID_TEST_DATA_RESOURCES);
+
+        InvalidTestDataException exception = assertThrows(InvalidTestDataException.class,
+                () -> indexedStore.getObjectWithId("F-050_Test_Data_Base", HttpTestData.class));
+        assertEquals("Object with _guid_=F-050_Test_Data_Base already exists", exception.getMessage());
+    }
+}
@@ -1,6 +1,11 @@
 package uk.gov.hmcts.jsonstore;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static uk.gov.hmcts.common.CommonAssertions.applyCommonAssertionsOnBasicData;
 import static uk.gov.hmcts.common.CommonAssertions.applyCommonAssertionsOnExtendedData;
 import static uk.gov.hmcts.common.CommonAssertions.applyCommonAssertionsOnOverriddenData;
@@ -9,7 +14,16 @@ import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
+import java.io.File;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import uk.gov.hmcts.befta.data.HttpTestData;
+import uk.gov.hmcts.befta.exception.InvalidTestDataException;
+import uk.gov.hmcts.befta.exception.ParentNotFoundException;
 
 public class JsonResourceStoreWithInheritanceTest {
 
@@ -26,6 +40,24 @@ public class JsonResourceStoreWithInheritanceTest {
             "framework-test-data/inheritance-test-data/Simple-Data-With-Overrides.td.json",
     };
 
+    private static final String[] DUPLICATE_GUID_TEST_DATA_RESOURCES = {
+            "framework-test-data-duplicate-guids/features-with-duplicate-guids/F-050/F-050_Test_Data_Base.td.json",
+            "framework-test-data-duplicate-guids/features-with-duplicate-guids/F-050/F-050_Test_Data_Base_DUPLICATE.td.json"
+    };
+
+    private static final String[] DUPLICATE_GUID_BEFORE_PARSE_ERROR_TEST_DATA_RESOURCES = {
+            DUPLICATE_GUID_TEST_DATA_RESOURCES[0],
+            DUPLICATE_GUID_TEST_DATA_RESOURCES[1],
+            "framework-test-data-parse-errors/Malformed.td.json"
+    };
+
+    private static final String[] INHERITANCE_PROBLEM_TEST_DATA_RESOURCES = {
+            "framework-test-data-inheritance-problems/Cycle-A.td.json",
+            "framework-test-data-inheritance-problems/Cycle-B.td.json",
+            "framework-test-data-inheritance-problems/Missing-Parent-1.td.json",
+            "framework-test-data-inheritance-problems/Missing-Parent-2.td.json"
+    };
+
     private static final String ID_KEY = "_guid_";
     private static final String FILE_IN_ROOT_ID = "File-In-Root";
     private static final String FILE_IN_SUBDIRECTORY_ID = "File-In-Subdirectory";
@@ -46,6 +78,126 @@ public class JsonResourceStoreWithInheritanceTest {
         assertEquals(FILE_IN_SUBDIRECTORY_ID, rootNode.get(1).get(ID_KEY).textValue());
     }
 
+    @Test
+    public void shouldBuildResourceStoreConcurrentlyInResourceOrder() throws Exception {
+        resourceStore = new JsonResourceStoreWithInheritance(DIRECTORIES_TEST_DATA_RESOURCES);
+        resourceStore.setParsingParallelism(4);
+
+        resourceStore.buildObjectStore();
+
+        final JsonNode rootNode = resourceStore.getRootNode();
+        assertEquals(2, rootNode.size());
+        assertEquals(FILE_IN_ROOT_ID, rootNode.get(0).get(ID_KEY).textValue());
+        assertEquals(FILE_IN_SUBDIRECTORY_ID, rootNode.get(1).get(ID_KEY).textValue());
+    }
+
+    @Test
+    public void shouldBuildEmptyResourceStoreWhenParsingConcurrentlyWithoutResources() throws Exception {
+        resourceStore = new JsonResourceStoreWithInheritance(new String[0]);
+        resourceStore.setParsingParallelism(4);
+
+        resourceStore.buildObjectStore();
+
+        assertEquals(0, resourceStore.getRootNode().size());
+    }
+
+    @Test
+    public void shouldDetectDuplicateGuidsWhenParsingConcurrently() {
+        resourceStore = new JsonResourceStoreWithInheritance(DUPLICATE_GUID_TEST_DATA_RESOURCES);
+        resourceStore.setParsingParallelism(2);
+
+        InvalidTestDataException exception = assertThrows(InvalidTestDataException.class,
+                () -> resourceStore.buildObjectStore());
+        assertEquals("Object with _guid_=F-050_Test_Data_Base already exists", exception.getMessage());
+    }
+
+    @Test
+    public void shouldReportDuplicateGuidBeforeLaterParseError() {
+        resourceStore = new JsonResourceStoreWithInheritance(DUPLICATE_GUID_BEFORE_PARSE_ERROR_TEST_DATA_RESOURCES);
+
+        InvalidTestDataException exception = assertThrows(InvalidTestDataException.class,
+                () -> resourceStore.buildObjectStore());
+        assertEquals("Object with _guid_=F-050_Test_Data_Base already exists", exception.getMessage());
+    }
+
+    @Test
+    public void shouldReportDuplicateGuidBeforeLaterParseErrorWhenParsingConcurrently() {
+        resourceStore = new JsonResourceStoreWithInheritance(DUPLICATE_GUID_BEFORE_PARSE_ERROR_TEST_DATA_RESOURCES);
+        resourceStore.setParsingParallelism(3);
+
+        InvalidTestDataException exception = assertThrows(InvalidTestDataException.class,
+                () -> resourceStore.buildObjectStore());
+        assertEquals("Object with _guid_=F-050_Test_Data_Base already exists", exception.getMessage());
+    }
+
+    @Test
+    public void shouldGetObjectWithIdForInheritedDataParsedConcurrently() throws Exception {
+        resourceStore = new JsonResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+        resourceStore.setParsingParallelism(3);
+
+        applyCommonAssertionsOnExtendedData(resourceStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class));
+        applyCommonAssertionsOnOverriddenData(resourceStore.getObjectWithId(FILE_WITH_OVERRIDES, HttpTestData.class));
+    }
+
+    @Test
+    public void shouldShareInheritedValuesNotOverriddenInChildren() throws Exception {
+        resourceStore = new JsonResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+
+        Map<String, JsonNode> nodeLibrary = resourceStore.getNodeLibrary();
+        JsonNode parent = nodeLibrary.get(FILE_WITHOUT_INHERITANCE);
+        JsonNode child = nodeLibrary.get(FILE_WITH_INHERITANCE);
+        assertSame(parent.get("specs"), child.get("specs"));
+        assertSame(parent.get("users").get("invokingUser"), child.get("users").get("invokingUser"));
+        assertEquals(2, child.get("users").size());
+        assertEquals(1, parent.get("users").size());
+    }
+
+    @Test
+    public void shouldRecordMetricsOfLoadingAndLookingUp() throws Exception {
+        resourceStore = new JsonResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+
+        resourceStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class);
+        resourceStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class);
+        resourceStore.getObjectWithId(FILE_WITH_OVERRIDES, HttpTestData.class);
+
+        JsonStoreMetrics metrics = resourceStore.getMetrics();
+        assertEquals(3, metrics.getResourceCount());
+        assertFalse(metrics.isLoadedFromSnapshot());
+        assertTrue(metrics.getLoadMillis() > 0);
+        assertEquals(3, metrics.getResolvedObjectCount());
+        assertEquals(2, metrics.getConvertedObjectCount());
+        assertTrue(metrics.getNodeCount() > 3);
+        assertTrue(metrics.getRetainedSizeEstimateBytes() > 0);
+        assertEquals(3, metrics.getLookupLatency().getCount());
+    }
+
+    @Test
+    public void shouldReportAllMissingParentsTogether() {
+        resourceStore = new JsonResourceStoreWithInheritance(
+                Arrays.copyOfRange(INHERITANCE_PROBLEM_TEST_DATA_RESOURCES, 2, 4));
+
+        ParentNotFoundException exception = assertThrows(ParentNotFoundException.class,
+                () -> resourceStore.getObjectWithId("Missing-Parent-1", HttpTestData.class));
+        assertTrue(exception.getMessage().startsWith("2 inheritance problems found:"));
+        assertTrue(exception.getMessage()
+                .contains("Parent object with key Not-Existing-Parent-1 not found for Missing-Parent-1."));
+        assertTrue(exception.getMessage()
+                .contains("Parent object with key Not-Existing-Parent-2 not found for Missing-Parent-2."));
+    }
+
+    @Test
+    public void shouldReportInheritanceCyclesTogetherWithMissingParents() {
+        resourceStore = new JsonResourceStoreWithInheritance(INHERITANCE_PROBLEM_TEST_DATA_RESOURCES);
+
+        InvalidTestDataException exception = assertThrows(InvalidTestDataException.class,
+                () -> resourceStore.getObjectWithId("Missing-Parent-1", HttpTestData.class));
+        assertTrue(exception.getMessage().startsWith("3 inheritance problems found:"));
+        assertTrue(exception.getMessage().contains("Inheritance cycle found: Cycle-A -> Cycle-B -> Cycle-A.")
+                || exception.getMessage().contains("Inheritance cycle found: Cycle-B -> Cycle-A -> Cycle-B."));
+        assertTrue(exception.getMessage().contains("Not-Existing-Parent-1"));
+        assertTrue(exception.getMessage().contains("Not-Existing-Parent-2"));
+    }
+
     @Test
     public void shouldGetObjectWithIdForBasicDataSuccessfully() throws Exception {
         resourceStore = new JsonResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
@@ -72,4 +224,100 @@ public class JsonResourceStoreWithInheritanceTest {
 
         applyCommonAssertionsOnOverriddenData(data);
     }
+
+    @Test
+    public void shouldConvertOnlyRequestedObjectAndCacheItPerTypeAndId() throws Exception {
+        resourceStore = new JsonResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+
+        final HttpTestData data = resourceStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class);
+
+        assertEquals(1, resourceStore.objectLibraryPerTypes.get(HttpTestData.class).size());
+        assertSame(data, resourceStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class));
+    }
+
+    @Test
+    public void shouldLookUpConvertedObjectsWithoutLockingTheStore() throws Exception {
+        resourceStore = new JsonResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+        final HttpTestData data = resourceStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class);
+        assertNull(resourceStore.getObjectWithId("Not-Existing", HttpTestData.class));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            synchronized (resourceStore) {
+                assertSame(data, executor.submit(
+                        () -> resourceStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class))
+                        .get(5, TimeUnit.SECONDS));
+                assertNull(executor.submit(() -> resourceStore.getObjectWithId("Not-Existing", HttpTestData.class))
+                        .get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldResolveOnlyRequestedObjectAndItsAncestorsInLazyMode() throws Exception {
+        resourceStore = new JsonResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+        resourceStore.setLazyInheritance(true);
+
+        final HttpTestData data = resourceStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class);
+
+        applyCommonAssertionsOnExtendedData(data);
+        final JsonNode overridingNode = resourceStore.getNodeLibrary().get(FILE_WITH_OVERRIDES);
+        assertTrue(overridingNode.has("_extends_"));
+        assertNull(overridingNode.get("title"));
+    }
+
+    @Test
+    public void shouldGetObjectsWithIdInLazyModeSuccessfully() throws Exception {
+        resourceStore = new JsonResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+        resourceStore.setLazyInheritance(true);
+
+        applyCommonAssertionsOnOverriddenData(resourceStore.getObjectWithId(FILE_WITH_OVERRIDES, HttpTestData.class));
+        applyCommonAssertionsOnExtendedData(resourceStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class));
+        applyCommonAssertionsOnBasicData(resourceStore.getObjectWithId(FILE_WITHOUT_INHERITANCE, HttpTestData.class));
+        assertNull(resourceStore.getObjectWithId("Unknown-Id", HttpTestData.class));
+    }
+
+    @Test
+    public void shouldWriteSnapshotAndLoadResolvedStoreFromIt() throws Exception {
+        File snapshotFile = createTemporarySnapshotFile();
+        resourceStore = new JsonResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+        resourceStore.setSnapshotFile(snapshotFile);
+
+        applyCommonAssertionsOnExtendedData(resourceStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class));
+        assertTrue(snapshotFile.length() > 0);
+
+        resourceStore = new JsonResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES) {
+            @Override
+            protected void buildObjectStore() {
+                throw new IllegalStateException("Store should have been loaded from the snapshot.");
+            }
+        };
+        resourceStore.setSnapshotFile(snapshotFile);
+
+        applyCommonAssertionsOnExtendedData(resourceStore.getObjectWithId(FILE_WITH_INHERITANCE, HttpTestData.class));
+        applyCommonAssertionsOnOverriddenData(resourceStore.getObjectWithId(FILE_WITH_OVERRIDES, HttpTestData.class));
+    }
+
+    @Test
+    public void shouldRebuildStoreWhenSnapshotIsOutOfDate() throws Exception {
+        File snapshotFile = createTemporarySnapshotFile();
+        resourceStore = new JsonResourceStoreWithInheritance(DIRECTORIES_TEST_DATA_RESOURCES);
+        resourceStore.setSnapshotFile(snapshotFile);
+        resourceStore.getRootNode();
+
+        resourceStore = new JsonResourceStoreWithInheritance(INHERITANCE_TEST_DATA_RESOURCES);
+        resourceStore.setSnapshotFile(snapshotFile);
+
+        applyCommonAssertionsOnBasicData(resourceStore.getObjectWithId(FILE_WITHOUT_INHERITANCE, HttpTestData.class));
+        assertNull(resourceStore.getObjectWithId(FILE_IN_ROOT_ID, HttpTestData.class));
+    }
+
+    private File createTemporarySnapshotFile() throws Exception {
+        File snapshotFile = File.createTempFile("befta-test-data", ".snapshot");
+        snapshotFile.delete();
+        snapshotFile.deleteOnExit();
+        return snapshotFile;
+    }
 }
@@ -0,0 +1,51 @@
+package uk.gov.hmcts.jsonstore;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void shouldReportPercentilesAsBucketUpperBounds() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++)
+            histogram.record(500);
+        for (int i = 0; i < 9; i++)
+            histogram.record(3_000);
+        histogram.record(100_000);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(1.0, histogram.getP50Micros(), 0);
+        assertEquals(1.0, histogram.getP90Micros(), 0);
+        assertEquals(4.0, histogram.getP99Micros(), 0);
+        assertEquals(100.0, histogram.getPercentileMicros(100), 0);
+        assertEquals(100.0, histogram.getMaxMicros(), 0);
+        assertEquals(1.72, histogram.getMeanMicros(), 0.001);
+    }
+
+    @Test
+    public void shouldListOnlyNonEmptyBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(500);
+        histogram.record(3_000);
+        histogram.record(3_500);
+
+        Map<String, Long> buckets = histogram.getBuckets();
+        assertEquals(2, buckets.size());
+        assertEquals(Long.valueOf(1), buckets.get("<1us"));
+        assertEquals(Long.valueOf(2), buckets.get("<4us"));
+    }
+
+    @Test
+    public void shouldReportZerosWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMeanMicros(), 0);
+        assertEquals(0.0, histogram.getP99Micros(), 0);
+        assertEquals(0, histogram.getBuckets().size());
+    }
+}